@@ -0,0 +1,86 @@
+#!/usr/bin/env bash
+# Startup benchmark: time to first request (GET /api/employees/summaries, which goes through Hibernate and the
+# connection pool) and resident memory at that point, for each build of the application.
+#
+#   mvn -DskipTests package                    -> jvm
+#   mvn -Pnative -DskipTests package           -> jvm and aot (the same jar, started with the AOT-generated context)
+#   mvn -Pcds -DskipTests package              -> cds (the class archive is recorded on the first run)
+#   mvn -Pnative -DskipTests native:compile    -> native (needs GraalVM)
+#
+#   scripts/startup-benchmark.sh [jvm] [aot] [cds] [native]
+#
+# Variants without a build are skipped. RUNS (default 5) starts per variant, reported as medians. The
+# application gets an in-memory H2 database unless APP_ARGS says otherwise, e.g.
+# APP_ARGS="--spring.datasource.url=jdbc:mysql://localhost:3306/ems --spring.datasource.username=root".
+# Linux only (date +%N, ps -o rss).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+APP_ARGS=${APP_ARGS:---spring.datasource.url=jdbc:h2:mem:startup --spring.datasource.username=sa --spring.datasource.password=}
+URL="http://localhost:${PORT}/api/employees/summaries"
+LOG=target/startup-benchmark.log
+
+JAR=target/spring-boot-testing-0.0.1-SNAPSHOT.jar
+CDS_JAR=target/cds/spring-boot-testing-0.0.1-SNAPSHOT.jar
+CDS_ARCHIVE=target/cds/application.jsa
+NATIVE=target/spring-boot-testing
+
+command_for() {
+    case "$1" in
+        jvm) [[ -f $JAR ]] && echo "java -jar $JAR" ;;
+        aot) [[ -f $JAR && $(unzip -l "$JAR") == *__ApplicationContextInitializer* ]] \
+                 && echo "java -Dspring.aot.enabled=true -jar $JAR" ;;
+        cds) [[ -f $CDS_JAR ]] && echo "java -XX:SharedArchiveFile=$CDS_ARCHIVE -jar $CDS_JAR" ;;
+        native) [[ -x $NATIVE ]] && echo "$NATIVE" ;;
+        *) echo "Unknown variant: $1" >&2; exit 2 ;;
+    esac
+}
+
+# starts the application once and prints "<milliseconds to first request> <RSS in MB>"
+start_once() {
+    local start pid elapsed rss
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    $1 --server.port="$PORT" $APP_ARGS >"$LOG" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited before answering, see $LOG" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$((($(date +%s%N) - start) / 1000000))
+    rss=$(($(ps -o rss= -p "$pid") / 1024))
+    kill "$pid"
+    wait "$pid" || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+variants=("$@")
+if [[ ${#variants[@]} -eq 0 ]]; then
+    variants=(jvm aot cds native)
+fi
+
+printf '%-8s %18s %10s\n' variant first-request-ms rss-mb
+for variant in "${variants[@]}"; do
+    command=$(command_for "$variant") || true
+    if [[ -z $command ]]; then
+        printf '%-8s %18s %10s\n' "$variant" "not built" "-"
+        continue
+    fi
+    # the archive holds the classes loaded up to the first request; it is written when the JVM exits
+    if [[ $variant == cds && ! -f $CDS_ARCHIVE ]]; then
+        start_once "java -XX:ArchiveClassesAtExit=$CDS_ARCHIVE -jar $CDS_JAR" >/dev/null
+    fi
+    results=$(for _ in $(seq "$RUNS"); do start_once "$command"; done)
+    printf '%-8s %18s %10s\n' "$variant" "$(cut -d' ' -f1 <<<"$results" | median)" \
+        "$(cut -d' ' -f2 <<<"$results" | median)"
+done
@@ -0,0 +1,37 @@
+package net.javaguides.springboottesting.benchmark;
+
+import net.javaguides.springboottesting.SpringBootTestingApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * Starts the application without a web server on an in-memory H2 database for a benchmark trial.
+ *
+ * @author Donald F. Coffin
+ */
+
+final class BenchmarkApplication {
+
+    // for trials that have to reach the database on every call
+    static final String[] WITHOUT_SECOND_LEVEL_CACHE = {
+            "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "--spring.jpa.properties.hibernate.cache.use_query_cache=false"};
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String h2Url, String... args) {
+        // command-line arguments, so they take precedence over application.properties
+        String[] defaults = {
+                "--spring.datasource.url=" + h2Url + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--logging.level.root=WARN"};
+        return new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(Stream.concat(Stream.of(defaults), Stream.of(args)).toArray(String[]::new));
+    }
+}
@@ -0,0 +1,43 @@
+package net.javaguides.springboottesting.benchmark;
+
+import net.javaguides.springboottesting.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code Employee.builder()} over the all-args constructor; the GC profiler's gc.alloc.rate.norm shows
+ * the extra builder allocation per employee.
+ *
+ * @author Donald F. Coffin
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmployeeBuilderBenchmark {
+
+    // non-final, so the JIT cannot constant-fold the inputs
+    private long id = 1L;
+    private String firstName = "Ramesh";
+    private String lastName = "Fadatare";
+    private String email = "ramesh@gmail.com";
+
+    @Benchmark
+    public Employee builder() {
+        return Employee.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .build();
+    }
+
+    @Benchmark
+    public Employee constructor() {
+        return new Employee(id, firstName, lastName, email, null);
+    }
+}
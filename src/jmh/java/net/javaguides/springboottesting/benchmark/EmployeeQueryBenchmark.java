@@ -0,0 +1,114 @@
+package net.javaguides.springboottesting.benchmark;
+
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeeView;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The equivalent first-name/last-name lookups of {@code EmployeeRepository} (JPQL and native SQL, with
+ * index and named parameters) against the derived-query and projection baselines, on an H2 table in
+ * MySQL mode. Throughput, sampled latency and, from the GC profiler the benchmarks profile enables, allocation
+ * per call: {@code mvn -Pbenchmarks -DskipTests verify -Djmh.args="EmployeeQueryBenchmark"}.
+ *
+ * @author Donald F. Coffin
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeQueryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeRepository employeeRepository;
+
+    @Setup(Level.Trial)
+    public void seedEmployees() {
+        context = BenchmarkApplication.start("jdbc:h2:mem:queries;MODE=MySQL",
+                BenchmarkApplication.WITHOUT_SECOND_LEVEL_CACHE);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+
+        // one set-based INSERT; going through JPA would dominate the setup at a million rows
+        context.getBean(JdbcTemplate.class).update("INSERT INTO employees (first_name, last_name, email) "
+                + "SELECT CONCAT('First', x), CONCAT('Last', x), CONCAT('employee', x, '@gmail.com') "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Lookup {
+
+        private static final int LOOKUPS = 4096;
+
+        private final String[] firstNames = new String[LOOKUPS];
+        private final String[] lastNames = new String[LOOKUPS];
+        private int next;
+
+        // random rows picked up front, so no layer can answer from a single cached result
+        @Setup(Level.Trial)
+        public void pickEmployees(EmployeeQueryBenchmark benchmark) {
+            for (int i = 0; i < LOOKUPS; i++) {
+                int row = ThreadLocalRandom.current().nextInt(1, benchmark.rows + 1);
+                firstNames[i] = "First" + row;
+                lastNames[i] = "Last" + row;
+            }
+        }
+
+        int next() {
+            next = (next + 1) & (LOOKUPS - 1);
+            return next;
+        }
+    }
+
+    @Benchmark
+    public Employee jpqlIndexParams(Lookup lookup) {
+        int i = lookup.next();
+        return employeeRepository.findByJPQL(lookup.firstNames[i], lookup.lastNames[i]);
+    }
+
+    @Benchmark
+    public Employee jpqlNamedParams(Lookup lookup) {
+        int i = lookup.next();
+        return employeeRepository.findByJPQLNamedParams(lookup.firstNames[i], lookup.lastNames[i]);
+    }
+
+    @Benchmark
+    public Employee nativeIndexParams(Lookup lookup) {
+        int i = lookup.next();
+        return employeeRepository.findByNativeSQL(lookup.firstNames[i], lookup.lastNames[i]);
+    }
+
+    @Benchmark
+    public Employee nativeNamedParams(Lookup lookup) {
+        int i = lookup.next();
+        return employeeRepository.findByNativeSQLNamedParams(lookup.firstNames[i], lookup.lastNames[i]);
+    }
+
+    @Benchmark
+    public Employee derivedQuery(Lookup lookup) {
+        int i = lookup.next();
+        return employeeRepository.findByFirstNameAndLastName(lookup.firstNames[i], lookup.lastNames[i]);
+    }
+
+    @Benchmark
+    public EmployeeView projection(Lookup lookup) {
+        int i = lookup.next();
+        return employeeRepository.findViewByFirstNameAndLastName(lookup.firstNames[i], lookup.lastNames[i]);
+    }
+}
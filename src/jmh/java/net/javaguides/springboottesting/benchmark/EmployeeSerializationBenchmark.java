@@ -0,0 +1,132 @@
+package net.javaguides.springboottesting.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.protobuf.EmployeeListMessage;
+import net.javaguides.springboottesting.protobuf.EmployeeProtobufHttpMessageConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * (De)serialization of {@code Employee} lists in each negotiated format: JSON, Smile and CBOR with the
+ * ObjectMapper defaults Spring MVC uses, and Protobuf through the mapping of
+ * {@link EmployeeProtobufHttpMessageConverter}. The payload size of every format, plain and gzipped, is printed
+ * once per trial.
+ *
+ * @author Donald F. Coffin
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    public String format;
+
+    private Codec codec;
+
+    private List<Employee> employees;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        codec = switch (format) {
+            case "json" -> jackson(Jackson2ObjectMapperBuilder.json().build());
+            case "smile" -> jackson(Jackson2ObjectMapperBuilder.smile().build());
+            case "cbor" -> jackson(Jackson2ObjectMapperBuilder.cbor().build());
+            case "protobuf" -> protobuf();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+
+        employees = IntStream.range(0, size)
+                .mapToObj(i -> Employee.builder()
+                        .id(i)
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("employee" + i + "@gmail.com")
+                        .version(0L)
+                        .build())
+                .toList();
+        encoded = codec.encode(employees);
+        System.out.printf("%n%s, %d employees: %d bytes, %d bytes gzipped%n", format, size, encoded.length,
+                gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return codec.encode(employees);
+    }
+
+    @Benchmark
+    public List<Employee> deserialize() throws IOException {
+        return codec.decode(encoded);
+    }
+
+    private static Codec jackson(ObjectMapper objectMapper) {
+        TypeReference<List<Employee>> employeeList = new TypeReference<>() {
+        };
+        ObjectWriter listWriter = objectMapper.writerFor(employeeList);
+        ObjectReader listReader = objectMapper.readerFor(employeeList);
+        return new Codec() {
+            @Override
+            public byte[] encode(List<Employee> employees) throws IOException {
+                return listWriter.writeValueAsBytes(employees);
+            }
+
+            @Override
+            public List<Employee> decode(byte[] bytes) throws IOException {
+                return listReader.readValue(bytes);
+            }
+        };
+    }
+
+    // the same mapping the HTTP converter applies, so the numbers include the copy from and to Employee
+    private static Codec protobuf() {
+        return new Codec() {
+            @Override
+            public byte[] encode(List<Employee> employees) {
+                return EmployeeProtobufHttpMessageConverter.toListMessage(employees).toByteArray();
+            }
+
+            @Override
+            public List<Employee> decode(byte[] bytes) throws IOException {
+                return EmployeeListMessage.parseFrom(bytes).getEmployeesList().stream()
+                        .map(EmployeeProtobufHttpMessageConverter::fromMessage)
+                        .toList();
+            }
+        };
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+
+    private interface Codec {
+
+        byte[] encode(List<Employee> employees) throws IOException;
+
+        List<Employee> decode(byte[] bytes) throws IOException;
+    }
+}
@@ -0,0 +1,107 @@
+package net.javaguides.springboottesting.benchmark;
+
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * {@code EmployeeServiceImpl} against an in-memory H2 database, through the Spring proxies (transactions
+ * and the read-through cache) the controllers use.
+ *
+ * @author Donald F. Coffin
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+
+    /**
+     * {@code caffeine} measures getEmployeeById cache hits, {@code second-level} hits in Hibernate's
+     * second-level cache behind a disabled service cache, {@code none} always goes to the database.
+     */
+    @Param({"caffeine", "second-level", "none"})
+    public String cacheType;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = switch (cacheType) {
+            case "second-level" -> BenchmarkApplication.start("jdbc:h2:mem:benchmark", "--spring.cache.type=none");
+            case "none" -> BenchmarkApplication.start("jdbc:h2:mem:benchmark", Stream.concat(
+                    Stream.of("--spring.cache.type=none"),
+                    Stream.of(BenchmarkApplication.WITHOUT_SECOND_LEVEL_CACHE)).toArray(String[]::new));
+            default -> BenchmarkApplication.start("jdbc:h2:mem:benchmark", "--spring.cache.type=" + cacheType);
+        };
+        employeeService = context.getBean(EmployeeService.class);
+
+        employeeService.saveEmployees(IntStream.rangeClosed(1, EMPLOYEES)
+                .mapToObj(i -> employee("seed" + i))
+                .toList());
+        // start from warm caches, so the caffeine and second-level variants measure hits only
+        LongStream.rangeClosed(1, EMPLOYEES).forEach(employeeService::getEmployeeById);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object getEmployeeById() {
+        return employeeService.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    public Object getEmployeePage() {
+        return employeeService.getEmployeePage(null, 20);
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public Employee saveEmployee() {
+        return employeeService.saveEmployee(employee("bench" + emailSequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public Employee updateEmployee() {
+        Employee employee = employee("update" + emailSequence.incrementAndGet());
+        employee.setId(randomId());
+        return employeeService.updateEmployee(employee);
+    }
+
+    private static long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, EMPLOYEES + 1);
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder()
+                .firstName(name)
+                .lastName("Benchmark")
+                .email(name + "@gmail.com")
+                .build();
+    }
+}
@@ -1,9 +1,25 @@
 package net.javaguides.springboottesting;
 
+import net.javaguides.springboottesting.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
-@SpringBootApplication
+// @SpringBootApplication, minus the reactive stack: ReactiveEmployeeApplication is a separate application,
+// and an R2DBC ConnectionFactory would switch off the JDBC DataSource
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = R2dbcAutoConfiguration.class)
+@ComponentScan(excludeFilters = {
+		@ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+		@ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+		@ComponentScan.Filter(type = FilterType.REGEX, pattern = "net\\.javaguides\\.springboottesting\\.reactive\\..*") })
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class SpringBootTestingApplication {
 
 	public static void main(String[] args) {
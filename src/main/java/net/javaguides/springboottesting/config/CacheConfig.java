@@ -0,0 +1,17 @@
+package net.javaguides.springboottesting.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache size and TTL come from {@code spring.cache.caffeine.spec}.
+ *
+ * @author Donald F. Coffin
+ */
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String EMPLOYEES_CACHE = "employees";
+}
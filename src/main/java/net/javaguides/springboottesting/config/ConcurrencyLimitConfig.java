@@ -0,0 +1,52 @@
+package net.javaguides.springboottesting.config;
+
+import net.javaguides.springboottesting.limiter.AdaptiveConcurrencyLimiter;
+import net.javaguides.springboottesting.limiter.ConcurrencyLimitFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Load shedding in front of the connection pool: requests to {@code /api/employees} beyond the learned limit
+ * get 503 instead of waiting for a connection. The limits are published as employee.api.concurrency.* metrics.
+ * Off unless {@code app.concurrency-limit.enabled=true}: the latency thresholds are absolute, so they have to be
+ * tuned to the deployment before the limiter may shed its traffic.
+ *
+ * @author Donald F. Coffin
+ */
+
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter readConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return limiter("read", properties.getReads(), properties);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter writeConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return limiter("write", properties.getWrites(), properties);
+    }
+
+    // early, so a rejected request costs little; after the observation filter, so it still shows in http.server.*
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(readConcurrencyLimiter(properties), writeConcurrencyLimiter(properties),
+                        properties.getRetryAfter()));
+        registration.addUrlPatterns("/api/employees/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(String name, ConcurrencyLimitProperties.Limit limit,
+                                                      ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(name, limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(),
+                limit.getLatencyThreshold().toNanos(), properties.getBackoffRatio());
+    }
+}
@@ -0,0 +1,61 @@
+package net.javaguides.springboottesting.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limits for the employee API, one for reads (GET, HEAD) and one for writes.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties("app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled;
+
+    /**
+     * Factor applied to a limit after a slow or failed request.
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Sent as Retry-After on rejected requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Limit reads = new Limit(20, 4, 200, Duration.ofMillis(250));
+
+    private Limit writes = new Limit(10, 2, 100, Duration.ofMillis(500));
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int initialLimit;
+
+        private int minLimit;
+
+        private int maxLimit;
+
+        /**
+         * Requests slower than this count as a sign of overload and lower the limit.
+         */
+        private Duration latencyThreshold;
+
+        public Limit() {
+        }
+
+        Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+        }
+    }
+}
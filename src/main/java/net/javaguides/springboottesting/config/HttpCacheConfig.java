@@ -0,0 +1,13 @@
+package net.javaguides.springboottesting.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@EnableConfigurationProperties(HttpCacheProperties.class)
+@Configuration
+public class HttpCacheConfig {
+}
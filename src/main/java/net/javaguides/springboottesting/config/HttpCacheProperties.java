@@ -0,0 +1,35 @@
+package net.javaguides.springboottesting.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * Cache-Control sent with employee reads, which always carry an ETag for revalidation.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties("app.http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * How long clients may use a response without revalidating it.
+     */
+    private Duration maxAge = Duration.ZERO;
+
+    /**
+     * How long after max-age clients may keep using a response while they revalidate it in the background.
+     */
+    private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+
+    public CacheControl toCacheControl() {
+        return CacheControl.maxAge(maxAge)
+                .staleWhileRevalidate(staleWhileRevalidate);
+    }
+}
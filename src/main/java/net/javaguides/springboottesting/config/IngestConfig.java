@@ -0,0 +1,32 @@
+package net.javaguides.springboottesting.config;
+
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
+import net.javaguides.springboottesting.service.impl.EmployeeIngestServiceImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Asynchronous write-behind ingestion, off unless {@code app.ingest.enabled=true}.
+ *
+ * @author Donald F. Coffin
+ */
+
+@ConditionalOnProperty(prefix = "app.ingest", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(IngestProperties.class)
+@Configuration
+public class IngestConfig {
+
+    @Bean
+    public EmployeeIngestServiceImpl employeeIngestService(EmployeeRepository employeeRepository,
+                                                           PlatformTransactionManager transactionManager,
+                                                           EmployeeSearchIndex searchIndex,
+                                                           IngestProperties properties) {
+        return new EmployeeIngestServiceImpl(employeeRepository, new TransactionTemplate(transactionManager),
+                searchIndex, properties);
+    }
+}
@@ -0,0 +1,42 @@
+package net.javaguides.springboottesting.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties("app.ingest")
+public class IngestProperties {
+
+    /**
+     * Whether POST /api/employees/ingest accepts creates for asynchronous write-behind.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How many accepted employees may wait to be written; requests beyond it get 429.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * How many queued employees the writer inserts per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long job statuses stay available after they were accepted.
+     */
+    private Duration retention = Duration.ofMinutes(10);
+
+    /**
+     * Retry-After sent with 429 responses.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
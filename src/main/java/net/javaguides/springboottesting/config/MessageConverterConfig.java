@@ -0,0 +1,45 @@
+package net.javaguides.springboottesting.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import net.javaguides.springboottesting.protobuf.EmployeeProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary representations of the employee payloads: {@code application/x-jackson-smile},
+ * {@code application/cbor} and {@code application/x-protobuf} are served when a client asks for them in Accept,
+ * JSON stays the default. The Smile and CBOR mappers come from Boot's builder, so {@code spring.jackson.*}
+ * settings apply to them as well; Protobuf follows the schema in {@code src/main/proto} instead.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    // the builder bean is prototype scoped, each converter gets its own
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    // appended rather than declared as a bean: Boot puts converter beans that replace no default ahead of
+    // Jackson, and the first writable converter answers Accept: */*, which has to stay JSON
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new EmployeeProtobufHttpMessageConverter());
+    }
+}
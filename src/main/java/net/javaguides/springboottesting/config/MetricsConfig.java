@@ -0,0 +1,41 @@
+package net.javaguides.springboottesting.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import net.javaguides.springboottesting.monitoring.HibernateCacheEndpoint;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics Spring Boot 3.0 does not auto-configure: {@code @Timed} service methods and Hibernate
+ * statistics, including the second-level cache regions. HTTP and HikariCP metrics come from the actuator
+ * auto-configuration.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // hibernate.statements, hibernate.entities.loads, hibernate.flushes, ...; needs hibernate.generate_statistics
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory",
+                Tags.empty());
+    }
+
+    @Bean
+    public HibernateCacheEndpoint hibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        return new HibernateCacheEndpoint(entityManagerFactory.unwrap(SessionFactory.class));
+    }
+}
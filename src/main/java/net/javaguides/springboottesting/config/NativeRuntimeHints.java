@@ -0,0 +1,57 @@
+package net.javaguides.springboottesting.config;
+
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.data.projection.TargetAware;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * What a native image cannot find by static analysis: resources and classes looked up by name, classes
+ * Hibernate instantiates reflectively and the JDK proxies created at runtime. Spring AOT covers the rest
+ * (entities, repositories, controllers, configuration properties).
+ *
+ * @author Donald F. Coffin
+ */
+
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Boot only registers the default db/migration location, and Typesafe Config loads application.conf by name
+        hints.resources()
+                .registerPattern("db/migration/*/*.sql")
+                .registerPattern("application.conf");
+
+        // the JCache provider comes from hibernate.javax.cache.provider, a class name
+        hints.reflection().registerType(
+                TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // JPQL constructor expressions (findAllSummaries, streamAllDetached and findDetachedById)
+        hints.reflection().registerType(EmployeeSummary.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(Employee.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // interface projections are proxies created by Spring Data's ProxyProjectionFactory
+        hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(EmployeeView.class,
+                TargetAware.class));
+
+        // datasource-proxy (slow query log) wraps every JDBC object in a JDK proxy
+        for (Class<?> jdbcType : new Class<?>[]{DataSource.class, Connection.class, Statement.class,
+                PreparedStatement.class, CallableStatement.class, ResultSet.class}) {
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+        }
+    }
+}
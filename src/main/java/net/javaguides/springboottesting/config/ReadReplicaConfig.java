@@ -0,0 +1,86 @@
+package net.javaguides.springboottesting.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.javaguides.springboottesting.datasource.ReadYourWritesFilter;
+import net.javaguides.springboottesting.datasource.ReplicaCacheModeJpaDialect;
+import net.javaguides.springboottesting.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Replaces the auto-configured DataSource with a primary and a replica pool when
+ * {@code app.datasource.replica.url} is set. {@code @Transactional(readOnly = true)} methods read from the
+ * replica, everything else (and Flyway) uses the primary. Replica reads never fill the shared caches.
+ *
+ * @author Donald F. Coffin
+ */
+
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@Configuration
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReadReplicaProperties properties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    // static: post-processors are created before the beans they process; the dialect must be set before the
+    // EntityManagerFactory initializes, or it takes the vendor adapter's default
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactoryBean) {
+                    entityManagerFactoryBean.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.getReadYourWritesWindow(), Clock.systemUTC()));
+        registration.setEnabled(!properties.getReadYourWritesWindow().isZero());
+        return registration;
+    }
+}
@@ -0,0 +1,34 @@
+package net.javaguides.springboottesting.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection to the read replica used by read-only service methods. Pool settings go under
+ * {@code app.datasource.replica.hikari}.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties("app.datasource.replica")
+public class ReadReplicaProperties {
+
+    /**
+     * JDBC URL of the replica. Reads are only routed when this is set.
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * How long a client's reads stay on the primary after it wrote, to cover replication lag. Zero turns it off.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
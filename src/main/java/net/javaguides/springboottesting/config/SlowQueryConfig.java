@@ -0,0 +1,76 @@
+package net.javaguides.springboottesting.config;
+
+import net.javaguides.springboottesting.monitoring.RepositoryMethodContext;
+import net.javaguides.springboottesting.monitoring.SlowQueryEndpoint;
+import net.javaguides.springboottesting.monitoring.SlowQueryListener;
+import net.javaguides.springboottesting.monitoring.SlowQueryLog;
+import net.javaguides.springboottesting.monitoring.SlowQueryProperties;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes every JDBC statement through datasource-proxy for the slow-query log, and tags repository calls
+ * so slow statements name the method that issued them.
+ *
+ * @author Donald F. Coffin
+ */
+
+@EnableConfigurationProperties(SlowQueryProperties.class)
+@Configuration
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties.getTopN());
+    }
+
+    @Bean
+    public SlowQueryListener slowQueryListener(SlowQueryProperties properties, SlowQueryLog slowQueryLog) {
+        return new SlowQueryListener(properties.getThreshold(), slowQueryLog);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+
+    // static and lazy: post-processors are created before the beans they process
+    @Bean
+    public static BeanPostProcessor slowQueryPostProcessor(ObjectProvider<SlowQueryListener> slowQueryListener) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory -> repositoryFactory
+                            .addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> proxyFactory
+                                    .addAdvice(RepositoryMethodContext.interceptor(
+                                            repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // delegating wrappers (the read-replica router) are skipped, their target pools are proxied already
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(slowQueryListener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,12 +1,24 @@
 package net.javaguides.springboottesting.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.AllArgsConstructor;
+import net.javaguides.springboottesting.config.HttpCacheProperties;
 import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeePage;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
 import net.javaguides.springboottesting.service.EmployeeService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -20,40 +32,117 @@ public class EmployeeController {
 
     private EmployeeService employeeService;
 
+    private ObjectMapper objectMapper;
+
+    private HttpCacheProperties httpCacheProperties;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public Employee createEmployee(@RequestBody Employee employee) {
         return employeeService.saveEmployee(employee);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<Employee> createEmployees(@RequestBody List<Employee> employees) {
+        return employeeService.saveEmployees(employees);
+    }
+
+    // a matching If-None-Match gets 304 without a body; the list still has to be read to compute its ETag.
+    // Vary: Accept keeps shared caches from serving a Smile, CBOR or Protobuf body to a JSON client
     @GetMapping
-    public List<Employee> getAllEmployees() {
-        return employeeService.getAllEmployees();
+    public ResponseEntity<List<Employee>> getAllEmployees() {
+        List<Employee> employees = employeeService.getAllEmployees();
+        return ResponseEntity.ok()
+                .eTag(EmployeeETags.of(employees))
+                .cacheControl(httpCacheProperties.toCacheControl())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(employees);
+    }
+
+    @GetMapping(params = "limit")
+    public EmployeePage getEmployeePage(@RequestParam(value = "after", required = false) String cursor,
+                                        @RequestParam("limit") int limit) {
+        return employeeService.getEmployeePage(cursor, limit);
+    }
+
+    // read-only views: id and names for lists, the view columns for a lookup by email
+    @GetMapping("/summaries")
+    public List<EmployeeSummary> getEmployeeSummaries() {
+        return employeeService.getEmployeeSummaries();
+    }
+
+    @GetMapping(value = "/lookup", params = "email")
+    public ResponseEntity<EmployeeView> lookupEmployee(@RequestParam("email") String email) {
+        return ResponseEntity.of(employeeService.findEmployeeViewByEmail(email));
+    }
+
+    // type-ahead: prefix match on first name, last name, full name or email, answered from memory
+    @GetMapping(value = "/search", params = "q")
+    public List<EmployeeView> searchEmployees(@RequestParam("q") String query,
+                                              @RequestParam(value = "limit",
+                                                      defaultValue = "" + EmployeeSearchIndex.DEFAULT_LIMIT) int limit) {
+        return employeeService.searchEmployees(query, limit);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        ObjectWriter employeeWriter = objectMapper.writerFor(Employee.class);
+
+        // one JSON document per line, written as rows arrive instead of building the list in memory
+        StreamingResponseBody body = outputStream -> employeeService.exportEmployees(employee -> {
+            try {
+                outputStream.write(employeeWriter.writeValueAsBytes(employee));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // usually answered from the employees cache, so revalidation does not touch the database either
     @GetMapping("{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId){
         return employeeService.getEmployeeById(employeeId)
-                .map(ResponseEntity::ok)
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(EmployeeETags.of(employee))
+                        .cacheControl(httpCacheProperties.toCacheControl())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(employee))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PutMapping("{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable("id") long employeeId,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                   String ifMatch,
                                                    @RequestBody Employee employee) {
-        return employeeService.getEmployeeById(employeeId)
-                .map(savedEmployee -> {
-
-                    savedEmployee.setFirstName(employee.getFirstName());
-                    savedEmployee.setLastName(employee.getLastName());
-                    savedEmployee.setEmail(employee.getEmail());
-
-                    Employee updatedEmployee = employeeService.updateEmployee(savedEmployee);
-
-                    return new ResponseEntity<>(updatedEmployee, HttpStatus.OK);
+        // one UPDATE ... WHERE id = ?; an unknown id surfaces as ResourceNotFoundException (404)
+        employee.setId(employeeId);
+
+        // without If-Match the last writer wins, as before versioning, so existing clients keep working;
+        // "*" only asks for an existing employee, which the unconditional update checks anyway
+        Employee updatedEmployee;
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            updatedEmployee = employeeService.updateEmployee(employee);
+        } else {
+            // one UPDATE ... WHERE id = ? AND version = ?; a stale version surfaces as VersionConflictException (412)
+            updatedEmployee = employeeService.updateEmployee(employee, EmployeeETags.version(ifMatch));
+        }
+
+        return ResponseEntity.ok()
+                .eTag(EmployeeETags.of(updatedEmployee))
+                .body(updatedEmployee);
+    }
 
-                })
-                .orElseGet(() -> ResponseEntity.notFound().build());
+    @PatchMapping("{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void patchEmployee(@PathVariable("id") long employeeId, @RequestBody Employee employee) {
+        employeeService.patchEmployee(employeeId, employee);
     }
 
     @DeleteMapping("{id}")
@@ -63,4 +152,12 @@ public class EmployeeController {
 
         return new ResponseEntity<String>("Employee deleted successfully!.", HttpStatus.OK);
     }
+
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<String> deleteEmployees(@RequestParam("ids") List<Long> employeeIds) {
+
+        int deletedEmployees = employeeService.deleteEmployees(employeeIds);
+
+        return new ResponseEntity<String>(deletedEmployees + " employees deleted successfully!.", HttpStatus.OK);
+    }
 }
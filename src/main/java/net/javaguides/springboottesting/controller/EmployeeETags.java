@@ -0,0 +1,63 @@
+package net.javaguides.springboottesting.controller;
+
+import net.javaguides.springboottesting.exception.VersionConflictException;
+import net.javaguides.springboottesting.model.Employee;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * ETags computed from employee versions rather than from the serialized JSON, so a matching
+ * If-None-Match is answered with 304 before anything is serialized, and an If-Match header maps straight to
+ * the version a conditional update expects.
+ *
+ * @author Donald F. Coffin
+ */
+
+final class EmployeeETags {
+
+    private EmployeeETags() {
+    }
+
+    // the version itself, e.g. "3"
+    static String of(Employee employee) {
+        return "\"" + employee.getVersion() + "\"";
+    }
+
+    static String of(List<Employee> employees) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+        for (Employee employee : employees) {
+            buffer.clear();
+            buffer.putLong(employee.getId()).putLong(employee.getVersion() == null ? -1 : employee.getVersion());
+            digest.update(buffer.array());
+        }
+        // the first 22 Base64 characters (132 bits) are plenty to tell versions of a list apart. Weak, because the
+        // list is only revalidated with If-None-Match (weak comparison) and Tomcat never gzips a strong-ETag response
+        return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()).substring(0, 22) + "\"";
+    }
+
+    // If-Match uses strong comparison: anything but a single strong version tag cannot match
+    static long version(String ifMatch) {
+        String eTag = ifMatch.trim();
+        if (eTag.length() > 2 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+            try {
+                return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+            } catch (NumberFormatException e) {
+                // falls through to the conflict below
+            }
+        }
+        throw new VersionConflictException("If-Match " + ifMatch + " does not match the current version");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform", e);
+        }
+    }
+}
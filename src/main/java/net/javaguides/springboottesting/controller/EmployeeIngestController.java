@@ -0,0 +1,41 @@
+package net.javaguides.springboottesting.controller;
+
+import lombok.AllArgsConstructor;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.IngestJob;
+import net.javaguides.springboottesting.service.EmployeeIngestService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@AllArgsConstructor
+@ConditionalOnProperty(prefix = "app.ingest", name = "enabled", havingValue = "true")
+@RestController
+@RequestMapping("/api/employees/ingest")
+public class EmployeeIngestController {
+
+    private EmployeeIngestService employeeIngestService;
+
+    // 202 as soon as the employees are queued; the job's Location reports an outcome per employee
+    @PostMapping
+    public ResponseEntity<IngestJob> ingestEmployees(@RequestBody List<Employee> employees) {
+        IngestJob job = employeeIngestService.submit(employees);
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+                        .buildAndExpand(job.getId()).toUri())
+                .body(job);
+    }
+
+    @GetMapping("{id}")
+    public ResponseEntity<IngestJob> getIngestJob(@PathVariable("id") String jobId) {
+        return ResponseEntity.of(employeeIngestService.getJob(jobId));
+    }
+}
@@ -0,0 +1,82 @@
+package net.javaguides.springboottesting.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Gives a client read-your-writes consistency over a lagging replica: every write request sets a cookie that
+ * keeps the client's reads on the primary until the window has passed.
+ *
+ * @author Donald F. Coffin
+ */
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "read-your-writes-until";
+
+    private final Duration window;
+
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isWrite(request)) {
+            // set before the handler runs, the response may be committed by the time it returns
+            long until = clock.millis() + window.toMillis();
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!wroteRecently(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return !(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)
+                || HttpMethod.OPTIONS.equals(method) || HttpMethod.TRACE.equals(method));
+    }
+
+    // the expiry is checked here as well, clients are not trusted to drop the cookie after max-age
+    private boolean wroteRecently(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(cookie.getValue()) > clock.millis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
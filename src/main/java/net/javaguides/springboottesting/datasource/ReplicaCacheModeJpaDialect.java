@@ -0,0 +1,51 @@
+package net.javaguides.springboottesting.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Stops transactions that {@link ReplicaRoutingDataSource} sends to the replica from filling the second-level
+ * cache. The cache is shared by every request, and a lagging replica would otherwise put rows there that are
+ * older than what the primary already committed. Such transactions still read cached entries, they only skip
+ * the put ({@link CacheMode#GET}); the previous cache mode is restored when the transaction ends, because with
+ * open-in-view the session outlives it.
+ *
+ * @author Donald F. Coffin
+ */
+
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || ReplicaRoutingDataSource.isPinnedToPrimary()) {
+            return transactionData;
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData replicaTransactionData) {
+            replicaTransactionData.session().setCacheMode(replicaTransactionData.previousCacheMode());
+            super.cleanupTransaction(replicaTransactionData.delegate());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    private record ReplicaTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+}
@@ -0,0 +1,35 @@
+package net.javaguides.springboottesting.exception;
+
+import net.javaguides.springboottesting.model.Employee;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Tells which constraint a {@link DataIntegrityViolationException} came from, for the JPA and the R2DBC stack
+ * alike, so only a violated email constraint becomes a 409 and everything else (NOT NULL, foreign keys, other
+ * unique keys) still surfaces as the error it is.
+ *
+ * @author Donald F. Coffin
+ */
+
+public final class DataIntegrityViolations {
+
+    private DataIntegrityViolations() {
+    }
+
+    public static boolean isDuplicateEmail(DataIntegrityViolationException exception) {
+        // JPA: Hibernate's dialect extracts the constraint name from the SQL error
+        if (exception.getCause() instanceof ConstraintViolationException violation) {
+            return violation.getConstraintName() != null && namesEmailConstraint(violation.getConstraintName());
+        }
+
+        // R2DBC has no such extractor; H2 and MySQL both name the violated constraint in the driver message
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(exception);
+        return cause != exception && cause.getMessage() != null && namesEmailConstraint(cause.getMessage());
+    }
+
+    private static boolean namesEmailConstraint(String text) {
+        return text.toLowerCase().contains(Employee.EMAIL_UNIQUE_CONSTRAINT);
+    }
+}
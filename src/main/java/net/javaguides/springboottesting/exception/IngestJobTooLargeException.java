@@ -0,0 +1,16 @@
+package net.javaguides.springboottesting.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class IngestJobTooLargeException extends RuntimeException {
+
+    public IngestJobTooLargeException(String message) {
+        super(message);
+    }
+}
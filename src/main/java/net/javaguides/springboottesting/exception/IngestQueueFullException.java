@@ -0,0 +1,20 @@
+package net.javaguides.springboottesting.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@Getter
+public class IngestQueueFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public IngestQueueFullException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
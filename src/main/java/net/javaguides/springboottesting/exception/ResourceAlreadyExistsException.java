@@ -0,0 +1,16 @@
+package net.javaguides.springboottesting.exception;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+public class ResourceAlreadyExistsException extends RuntimeException {
+
+    public ResourceAlreadyExistsException(String message) {
+        super(message);
+    }
+
+    public ResourceAlreadyExistsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package net.javaguides.springboottesting.exception;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
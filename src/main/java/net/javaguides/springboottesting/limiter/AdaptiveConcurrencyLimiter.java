@@ -0,0 +1,108 @@
+package net.javaguides.springboottesting.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AIMD concurrency limit: every request that finishes within the latency threshold while the limit is in use
+ * raises the limit by one, every slow or failed request cuts it by the backoff ratio. Requests beyond the
+ * limit are rejected instead of queueing for a connection, so latency for the admitted ones stays flat when
+ * the database slows down.
+ *
+ * @author Donald F. Coffin
+ */
+
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private final String name;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Expected 1 <= min <= initial <= max limit, got " + minLimit + ", "
+                    + initialLimit + ", " + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (current * 2 >= limit) {
+                // only grow while at least half the limit is used, an idle service learns nothing about capacity
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.api.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("class", name)
+                .description("Requests admitted at the same time")
+                .register(registry);
+        Gauge.builder("employee.api.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("class", name)
+                .description("Requests currently admitted")
+                .register(registry);
+        FunctionCounter.builder("employee.api.concurrency.rejected", this, AdaptiveConcurrencyLimiter::getRejected)
+                .tag("class", name)
+                .description("Requests rejected because the limit was reached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,74 @@
+package net.javaguides.springboottesting.limiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Admits employee API requests through one limiter for reads and one for writes, and answers the rest with
+ * 503 and Retry-After right away. The streaming export and the in-memory search are not limited: the export
+ * holds its connection for as long as the client reads, the search never touches the database.
+ *
+ * @author Donald F. Coffin
+ */
+
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> UNLIMITED_PATHS = Set.of("/api/employees/export", "/api/employees/search");
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter readLimiter, AdaptiveConcurrencyLimiter writeLimiter,
+                                  Duration retryAfter) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return UNLIMITED_PATHS.contains(URL_PATH_HELPER.getPathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfter.toSeconds())));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    "Too many concurrent " + limiter.getName() + " requests, retry later");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            // 4xx are the client's doing; 5xx (pool timeouts included) mean the backend is struggling
+            failed = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+}
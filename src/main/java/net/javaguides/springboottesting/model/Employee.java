@@ -2,6 +2,8 @@ package net.javaguides.springboottesting.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * @author Donald F. Coffin
@@ -14,10 +16,23 @@ import lombok.*;
 @Builder
 
 @Entity
-@Table(name = "employees" )
+@Table(name = "employees",
+        uniqueConstraints = @UniqueConstraint(name = Employee.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
+// Spring Data R2DBC mapping for the reactive repository; column names follow its snake_case default
+@org.springframework.data.relational.core.mapping.Table("employees")
+// second-level cache region, sized in application.conf
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
 public class Employee {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employees_email";
+
+    public static final String CACHE_REGION = "employee";
+
+    public static final String LOOKUP_CACHE_REGION = "employee-lookups";
+
     @Id
+    @org.springframework.data.annotation.Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
 
@@ -29,4 +44,8 @@ public class Employee {
 
     @Column(nullable = false)
     private String email;
+
+    // null until persisted
+    @Version
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package net.javaguides.springboottesting.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One keyset page of employees. {@code nextCursor} is {@code null} on the last page.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Getter
+@AllArgsConstructor
+public class EmployeePage {
+
+    private List<Employee> content;
+
+    private String nextCursor;
+}
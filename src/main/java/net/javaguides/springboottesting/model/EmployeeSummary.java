@@ -0,0 +1,10 @@
+package net.javaguides.springboottesting.model;
+
+/**
+ * Read-only list row of an employee, built by a JPQL constructor expression instead of a managed entity.
+ *
+ * @author Donald F. Coffin
+ */
+
+public record EmployeeSummary(long id, String firstName, String lastName) {
+}
@@ -0,0 +1,14 @@
+package net.javaguides.springboottesting.model;
+
+/**
+ * Read-only projection of an employee.
+ *
+ * @author Donald F. Coffin
+ */
+
+public interface EmployeeView {
+    long getId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+}
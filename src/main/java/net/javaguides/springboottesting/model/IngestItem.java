@@ -0,0 +1,54 @@
+package net.javaguides.springboottesting.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+/**
+ * Outcome of one employee of an ingest job. Written by the ingest writer, read by status requests.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Getter
+public class IngestItem {
+
+    public enum Status {
+        PENDING, CREATED, DUPLICATE_EMAIL, FAILED
+    }
+
+    private final int index;
+
+    @JsonIgnore
+    private final Employee employee;
+
+    // status is written last, so a reader that sees it also sees the id or detail
+    private volatile Long employeeId;
+
+    private volatile String detail;
+
+    private volatile Status status = Status.PENDING;
+
+    public IngestItem(int index, Employee employee) {
+        this.index = index;
+        this.employee = employee;
+    }
+
+    public String getEmail() {
+        return employee.getEmail();
+    }
+
+    public void created(long id) {
+        employeeId = id;
+        status = Status.CREATED;
+    }
+
+    public void duplicateEmail() {
+        detail = "Employee already exist with given email: " + employee.getEmail();
+        status = Status.DUPLICATE_EMAIL;
+    }
+
+    public void failed(String reason) {
+        detail = reason;
+        status = Status.FAILED;
+    }
+}
@@ -0,0 +1,32 @@
+package net.javaguides.springboottesting.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The employees of one POST /api/employees/ingest request, tracked by {@code id} until they are written.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Getter
+@AllArgsConstructor
+public class IngestJob {
+
+    private String id;
+
+    private Instant acceptedAt;
+
+    private List<IngestItem> items;
+
+    public long getPending() {
+        return items.stream().filter(item -> item.getStatus() == IngestItem.Status.PENDING).count();
+    }
+
+    public boolean isDone() {
+        return getPending() == 0;
+    }
+}
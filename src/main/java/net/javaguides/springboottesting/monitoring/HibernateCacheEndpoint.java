@@ -0,0 +1,60 @@
+package net.javaguides.springboottesting.monitoring;
+
+import lombok.AllArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code GET /actuator/hibernatecache} returns hit, miss and put counts and the hit ratio of every
+ * second-level cache region; {@code DELETE} evicts all regions, {@code DELETE .../{region}} one of them. The
+ * caches are local, so an eviction has to be sent to every instance.
+ *
+ * @author Donald F. Coffin
+ */
+
+@AllArgsConstructor
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private SessionFactory sessionFactory;
+
+    @ReadOperation
+    public Map<String, Region> regions() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Region> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, Region.of(region));
+            }
+        }
+        return regions;
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @DeleteOperation
+    public void evict(@Selector String region) {
+        sessionFactory.getCache().evictRegion(region);
+    }
+
+    public record Region(long hits, long misses, long puts, double hitRatio) {
+
+        static Region of(CacheRegionStatistics statistics) {
+            long lookups = statistics.getHitCount() + statistics.getMissCount();
+            return new Region(statistics.getHitCount(), statistics.getMissCount(), statistics.getPutCount(),
+                    lookups == 0 ? 0.0 : (double) statistics.getHitCount() / lookups);
+        }
+    }
+}
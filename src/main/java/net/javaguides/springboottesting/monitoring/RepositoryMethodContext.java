@@ -0,0 +1,43 @@
+package net.javaguides.springboottesting.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Remembers which repository method the current thread is executing, so statements can be traced back
+ * to it.
+ *
+ * @author Donald F. Coffin
+ */
+
+public final class RepositoryMethodContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {
+    }
+
+    /**
+     * The innermost repository method running on this thread, or {@code null} for statements issued
+     * outside a repository call, e.g. when a transaction flushes on commit.
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static MethodInterceptor interceptor(Class<?> repositoryInterface) {
+        return (MethodInvocation invocation) -> {
+            String previous = CURRENT.get();
+            CURRENT.set(repositoryInterface.getSimpleName() + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+}
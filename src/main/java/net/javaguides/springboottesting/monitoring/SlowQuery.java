@@ -0,0 +1,13 @@
+package net.javaguides.springboottesting.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One statement execution that took longer than the slow-query threshold.
+ *
+ * @author Donald F. Coffin
+ */
+public record SlowQuery(Instant executedAt, long elapsedMillis, String sql, List<List<Object>> parameters,
+                        String repositoryMethod) {
+}
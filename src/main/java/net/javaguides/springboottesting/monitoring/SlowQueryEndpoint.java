@@ -0,0 +1,32 @@
+package net.javaguides.springboottesting.monitoring;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code GET /actuator/slowqueries} returns the slowest statements, slowest first; {@code DELETE} starts
+ * over.
+ *
+ * @author Donald F. Coffin
+ */
+
+@AllArgsConstructor
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueryLog.slowest();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,67 @@
+package net.javaguides.springboottesting.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Times every statement and logs the ones slower than the threshold, with their bind parameters and
+ * the repository method that issued them. Fast statements cost a timestamp and a comparison.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Slf4j
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private final long thresholdMillis;
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryListener(Duration threshold, SlowQueryLog slowQueryLog) {
+        this.thresholdMillis = threshold.toMillis();
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+
+        SlowQuery slowQuery = new SlowQuery(Instant.now(),
+                execInfo.getElapsedTime(),
+                queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")),
+                queryInfoList.stream().flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                        .map(SlowQueryListener::parameterValues)
+                        .toList(),
+                RepositoryMethodContext.current());
+        slowQueryLog.record(slowQuery);
+        log.warn("Slow query ({} ms) from {}: {} parameters {}", slowQuery.elapsedMillis(),
+                slowQuery.repositoryMethod() == null ? "outside a repository call" : slowQuery.repositoryMethod(),
+                slowQuery.sql(), slowQuery.parameters());
+    }
+
+    // one execution's bind values in parameter order ("1", "2", ... "10" sorts by length first)
+    private static List<Object> parameterValues(List<ParameterSetOperation> parameterSetOperations) {
+        return parameterSetOperations.stream()
+                .sorted(Comparator.comparing((ParameterSetOperation operation) -> String.valueOf(operation.getArgs()[0]),
+                        Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder())))
+                .map(operation -> ParameterSetOperation.isSetNullParameterOperation(operation)
+                        ? null
+                        : operation.getArgs()[1])
+                .toList();
+    }
+}
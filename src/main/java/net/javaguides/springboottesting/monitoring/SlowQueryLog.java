@@ -0,0 +1,49 @@
+package net.javaguides.springboottesting.monitoring;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the N slowest statements seen since start-up (or the last {@link #clear()}).
+ *
+ * @author Donald F. Coffin
+ */
+
+public class SlowQueryLog {
+
+    private static final Comparator<SlowQuery> BY_ELAPSED = Comparator.comparingLong(SlowQuery::elapsedMillis);
+
+    private final int size;
+
+    // min-heap: the head is the fastest of the retained statements and the first to be replaced
+    private final PriorityQueue<SlowQuery> slowest;
+
+    public SlowQueryLog(int size) {
+        this.size = size;
+        this.slowest = new PriorityQueue<>(size + 1, BY_ELAPSED);
+    }
+
+    public synchronized void record(SlowQuery slowQuery) {
+        // top-n=0 keeps the log line only; this runs inside the JDBC call, so it must not throw
+        if (size == 0) {
+            return;
+        }
+        if (slowest.size() < size) {
+            slowest.add(slowQuery);
+        } else if (slowQuery.elapsedMillis() > slowest.peek().elapsedMillis()) {
+            slowest.poll();
+            slowest.add(slowQuery);
+        }
+    }
+
+    public synchronized List<SlowQuery> slowest() {
+        return slowest.stream()
+                .sorted(BY_ELAPSED.reversed())
+                .toList();
+    }
+
+    public synchronized void clear() {
+        slowest.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package net.javaguides.springboottesting.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties("app.slow-query")
+public class SlowQueryProperties {
+
+    /**
+     * Statements running at least this long are logged and kept in the slow-query log.
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * How many of the slowest statements GET /actuator/slowqueries returns; 0 keeps none and only logs them.
+     */
+    private int topN = 20;
+}
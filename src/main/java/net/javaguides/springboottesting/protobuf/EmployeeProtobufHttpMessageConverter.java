@@ -0,0 +1,124 @@
+package net.javaguides.springboottesting.protobuf;
+
+import net.javaguides.springboottesting.model.Employee;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Reads and writes {@code Employee} and {@code List<Employee>} as {@code application/x-protobuf}, using the
+ * messages generated from {@code src/main/proto/employee.proto}. Other payloads (pages, summaries, views) have
+ * no schema yet and are still only served in the Jackson formats.
+ *
+ * @author Donald F. Coffin
+ */
+
+public class EmployeeProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public EmployeeProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Employee.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return (isEmployee(type) || isEmployeeList(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        boolean supported = type != null ? isEmployee(type) || isEmployeeList(type) : supports(clazz);
+        return supported && canWrite(mediaType);
+    }
+
+    // content negotiation asks with the raw class of the return value; the element type was checked in canWrite
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) || List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        if (isEmployeeList(type)) {
+            return EmployeeListMessage.parseFrom(inputMessage.getBody()).getEmployeesList().stream()
+                    .map(EmployeeProtobufHttpMessageConverter::fromMessage)
+                    .toList();
+        }
+        return readInternal(Employee.class, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return fromMessage(EmployeeMessage.parseFrom(inputMessage.getBody()));
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        if (object instanceof Employee employee) {
+            toMessage(employee).writeTo(outputMessage.getBody());
+        } else {
+            toListMessage((List<?>) object).writeTo(outputMessage.getBody());
+        }
+    }
+
+    public static EmployeeMessage toMessage(Employee employee) {
+        EmployeeMessage.Builder message = EmployeeMessage.newBuilder().setId(employee.getId());
+        if (employee.getFirstName() != null) {
+            message.setFirstName(employee.getFirstName());
+        }
+        if (employee.getLastName() != null) {
+            message.setLastName(employee.getLastName());
+        }
+        if (employee.getEmail() != null) {
+            message.setEmail(employee.getEmail());
+        }
+        if (employee.getVersion() != null) {
+            message.setVersion(employee.getVersion());
+        }
+        return message.build();
+    }
+
+    public static EmployeeListMessage toListMessage(List<?> employees) {
+        EmployeeListMessage.Builder message = EmployeeListMessage.newBuilder();
+        employees.forEach(employee -> message.addEmployees(toMessage((Employee) employee)));
+        return message.build();
+    }
+
+    // fields left out of the message stay null, like fields left out of a JSON body
+    public static Employee fromMessage(EmployeeMessage message) {
+        return Employee.builder()
+                .id(message.getId())
+                .firstName(message.hasFirstName() ? message.getFirstName() : null)
+                .lastName(message.hasLastName() ? message.getLastName() : null)
+                .email(message.hasEmail() ? message.getEmail() : null)
+                .version(message.hasVersion() ? message.getVersion() : null)
+                .build();
+    }
+
+    private static boolean isEmployee(Type type) {
+        return ResolvableType.forType(type).toClass() == Employee.class;
+    }
+
+    private static boolean isEmployeeList(Type type) {
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        return List.class.isAssignableFrom(resolvableType.toClass())
+                && resolvableType.as(List.class).getGeneric(0).toClass() == Employee.class;
+    }
+}
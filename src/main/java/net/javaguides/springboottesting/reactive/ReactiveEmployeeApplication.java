@@ -0,0 +1,22 @@
+package net.javaguides.springboottesting.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Non-blocking variant of the employee API: WebFlux on Netty with R2DBC, started with the
+ * {@code reactive} profile. Only the {@code reactive} package is scanned, so none of the JPA beans
+ * are created.
+ *
+ * @author Donald F. Coffin
+ */
+
+@SpringBootApplication
+public class ReactiveEmployeeApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveEmployeeApplication.class)
+                .profiles("reactive")
+                .run(args);
+    }
+}
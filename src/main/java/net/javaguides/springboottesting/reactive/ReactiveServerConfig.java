@@ -0,0 +1,20 @@
+package net.javaguides.springboottesting.reactive;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@Configuration
+public class ReactiveServerConfig {
+
+    // Tomcat is on the classpath for the servlet application and would otherwise be preferred;
+    // Netty serves every connection from a small, CPU-sized event-loop group
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,61 @@
+package net.javaguides.springboottesting.reactive.repository;
+
+import lombok.AllArgsConstructor;
+import net.javaguides.springboottesting.model.Employee;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+/**
+ * R2DBC access to the {@code employees} table. A class over {@link R2dbcEntityTemplate} rather than a
+ * Spring Data repository interface: with JPA on the classpath, Spring Data would hand an interface for
+ * the {@code @Entity} {@link Employee} to the JPA module, which rejects reactive repositories.
+ *
+ * @author Donald F. Coffin
+ */
+
+@AllArgsConstructor
+@Repository
+public class ReactiveEmployeeRepository {
+
+    private R2dbcEntityTemplate template;
+
+    public Mono<Employee> save(Employee employee) {
+        return template.insert(employee);
+    }
+
+    public Flux<Employee> findAll() {
+        return template.select(Employee.class).all();
+    }
+
+    public Mono<Employee> findById(long id) {
+        return template.selectOne(query(where("id").is(id)), Employee.class);
+    }
+
+    public Mono<Long> updateEmployee(long id, String firstName, String lastName, String email) {
+        // plain SQL: Update cannot express version = version + 1
+        return template.getDatabaseClient()
+                .sql("UPDATE employees SET first_name = :firstName, last_name = :lastName, email = :email, "
+                        + "version = version + 1 WHERE id = :id")
+                .bind("firstName", firstName)
+                .bind("lastName", lastName)
+                .bind("email", email)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteEmployeeById(long id) {
+        return template.delete(Employee.class)
+                .matching(query(where("id").is(id)))
+                .all();
+    }
+
+    public Mono<Long> deleteAll() {
+        return template.delete(Employee.class).all();
+    }
+}
@@ -0,0 +1,64 @@
+package net.javaguides.springboottesting.reactive.router;
+
+import lombok.AllArgsConstructor;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.reactive.service.ReactiveEmployeeService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional counterpart of {@code EmployeeController}'s create, list, get, update and delete endpoints.
+ *
+ * @author Donald F. Coffin
+ */
+
+@AllArgsConstructor
+@Component
+public class EmployeeHandler {
+
+    private ReactiveEmployeeService employeeService;
+
+    public Mono<ServerResponse> createEmployee(ServerRequest request) {
+        return request.bodyToMono(Employee.class)
+                .flatMap(employeeService::saveEmployee)
+                .flatMap(savedEmployee -> ServerResponse.status(HttpStatus.CREATED).bodyValue(savedEmployee));
+    }
+
+    public Mono<ServerResponse> getAllEmployees(ServerRequest request) {
+        // written element by element as a JSON array, or one document per line for application/x-ndjson;
+        // the response only requests more rows from the database as the client reads them
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok()
+                .contentType(contentType)
+                .body(employeeService.getAllEmployees(), Employee.class);
+    }
+
+    public Mono<ServerResponse> getEmployeeById(ServerRequest request) {
+        return employeeService.getEmployeeById(employeeId(request))
+                .flatMap(employee -> ServerResponse.ok().bodyValue(employee))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> updateEmployee(ServerRequest request) {
+        long employeeId = employeeId(request);
+        return request.bodyToMono(Employee.class)
+                .doOnNext(employee -> employee.setId(employeeId))
+                .flatMap(employeeService::updateEmployee)
+                .flatMap(updatedEmployee -> ServerResponse.ok().bodyValue(updatedEmployee));
+    }
+
+    public Mono<ServerResponse> deleteEmployee(ServerRequest request) {
+        return employeeService.deleteEmployee(employeeId(request))
+                .then(ServerResponse.ok().bodyValue("Employee deleted successfully!."));
+    }
+
+    private static long employeeId(ServerRequest request) {
+        return Long.parseLong(request.pathVariable("id"));
+    }
+}
@@ -0,0 +1,43 @@
+package net.javaguides.springboottesting.reactive.router;
+
+import net.javaguides.springboottesting.exception.ResourceAlreadyExistsException;
+import net.javaguides.springboottesting.exception.ResourceNotFoundException;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@Configuration
+public class EmployeeRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> employeeRoutes(EmployeeHandler employeeHandler) {
+        return RouterFunctions.route()
+                .path("/api/employees", builder -> builder
+                        .POST("", employeeHandler::createEmployee)
+                        .GET("", employeeHandler::getAllEmployees)
+                        .GET("/{id}", employeeHandler::getEmployeeById)
+                        .PUT("/{id}", employeeHandler::updateEmployee)
+                        .DELETE("/{id}", employeeHandler::deleteEmployee))
+                // the same problem-detail responses as GlobalExceptionHandler
+                .onError(ResourceNotFoundException.class, (exception, request) ->
+                        problem(HttpStatus.NOT_FOUND, "Resource not found", exception))
+                .onError(ResourceAlreadyExistsException.class, (exception, request) ->
+                        problem(HttpStatus.CONFLICT, "Resource already exists", exception))
+                .build();
+    }
+
+    private static Mono<ServerResponse> problem(HttpStatus status, String title, Throwable exception) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, exception.getMessage());
+        problemDetail.setTitle(title);
+        return ServerResponse.status(status).bodyValue(problemDetail);
+    }
+}
@@ -0,0 +1,17 @@
+package net.javaguides.springboottesting.reactive.service;
+
+import net.javaguides.springboottesting.model.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+public interface ReactiveEmployeeService {
+    Mono<Employee> saveEmployee(Employee employee);
+    Flux<Employee> getAllEmployees();
+    Mono<Employee> getEmployeeById(long id);
+    Mono<Employee> updateEmployee(Employee updatedEmployee);
+    Mono<Void> deleteEmployee(long id);
+}
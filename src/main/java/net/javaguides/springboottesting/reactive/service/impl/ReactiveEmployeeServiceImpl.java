@@ -0,0 +1,70 @@
+package net.javaguides.springboottesting.reactive.service.impl;
+
+import lombok.AllArgsConstructor;
+import net.javaguides.springboottesting.exception.DataIntegrityViolations;
+import net.javaguides.springboottesting.exception.ResourceAlreadyExistsException;
+import net.javaguides.springboottesting.exception.ResourceNotFoundException;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.reactive.repository.ReactiveEmployeeRepository;
+import net.javaguides.springboottesting.reactive.service.ReactiveEmployeeService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@AllArgsConstructor
+@Service
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        // uk_employees_email rejects a duplicate email in the INSERT itself, as in EmployeeServiceImpl
+        return employeeRepository.save(employee)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> duplicateEmailOrRethrow(e, employee.getEmail()));
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        // rows are pulled from the driver as the subscriber requests them
+        return employeeRepository.findAll();
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(long id) {
+        return employeeRepository.findById(id);
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(Employee updatedEmployee) {
+        return employeeRepository.updateEmployee(updatedEmployee.getId(), updatedEmployee.getFirstName(),
+                        updatedEmployee.getLastName(), updatedEmployee.getEmail())
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> duplicateEmailOrRethrow(e, updatedEmployee.getEmail()))
+                .flatMap(updatedRows -> updatedRows == 0
+                        ? Mono.error(new ResourceNotFoundException(
+                                "Employee not found with given id: " + updatedEmployee.getId()))
+                        : Mono.just(updatedEmployee));
+    }
+
+    @Override
+    public Mono<Void> deleteEmployee(long id) {
+        return employeeRepository.deleteEmployeeById(id)
+                .flatMap(deletedRows -> deletedRows == 0
+                        ? Mono.error(new ResourceNotFoundException("Employee not found with given id: " + id))
+                        : Mono.empty());
+    }
+
+    private static Throwable duplicateEmailOrRethrow(DataIntegrityViolationException exception, String email) {
+        if (DataIntegrityViolations.isDuplicateEmail(exception)) {
+            return new ResourceAlreadyExistsException("Employee already exist with given email: " + email, exception);
+        }
+        return exception;
+    }
+}
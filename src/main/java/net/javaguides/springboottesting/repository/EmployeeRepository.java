@@ -1,11 +1,25 @@
 package net.javaguides.springboottesting.repository;
 
+import jakarta.persistence.QueryHint;
 import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * @author Donald F. Coffin
@@ -13,14 +27,109 @@ import java.util.Optional;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
+    // cacheable lookups: the query cache keeps the matching ids, the rows come from the employee region
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = Employee.LOOKUP_CACHE_REGION)})
     Optional<Employee> findByEmail(String email);
 
+    // projections: only the listed columns are selected and the rows never enter the persistence context
+    Optional<EmployeeView> findViewByEmail(String email);
+
+    @Query("SELECT new net.javaguides.springboottesting.model.EmployeeSummary(e.id, e.firstName, e.lastName) "
+            + "FROM Employee e ORDER BY e.id")
+    List<EmployeeSummary> findAllSummaries();
+
+    // set-based duplicate check for bulk creates: one query per batch instead of one per row
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // keyset pagination: seek past the last seen id instead of skipping rows with OFFSET
+    List<Employee> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    // stream the whole table in id order; the fetch size stops the driver from buffering every row
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e FROM Employee e ORDER BY e.id")
+    Stream<Employee> streamAll();
+
+    // the same scan as unmanaged copies: built by the constructor expression, so they never enter the persistence
+    // context or the second-level cache
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new net.javaguides.springboottesting.model.Employee(e.id, e.firstName, e.lastName, e.email, "
+            + "e.version) FROM Employee e ORDER BY e.id")
+    Stream<Employee> streamAllDetached();
+
+    // one row as the database has it now, past the persistence context and the second-level cache, e.g. right
+    // after a bulk update in the same transaction
+    @Query("SELECT new net.javaguides.springboottesting.model.Employee(e.id, e.firstName, e.lastName, e.email, "
+            + "e.version) FROM Employee e WHERE e.id = :id")
+    Optional<Employee> findDetachedById(@Param("id") long id);
+
+    // single-statement update: no SELECT or merge first, the returned row count tells whether the id exists
+    @Transactional
+    @Modifying
+    @Query("UPDATE Employee e SET e.firstName = :firstName, e.lastName = :lastName, e.email = :email, "
+            + "e.version = e.version + 1 WHERE e.id = :id")
+    int updateEmployee(@Param("id") long id, @Param("firstName") String firstName,
+                       @Param("lastName") String lastName, @Param("email") String email);
+
+    // read back after an unconditional update, in its transaction: the row is still locked, so this is the version
+    // that update wrote
+    @Query("SELECT e.version FROM Employee e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") long id);
+
+    // optimistic variant: no row is updated unless the version still matches, nothing stays locked in between
+    @Transactional
+    @Modifying
+    @Query("UPDATE Employee e SET e.firstName = :firstName, e.lastName = :lastName, e.email = :email, "
+            + "e.version = e.version + 1 WHERE e.id = :id AND e.version = :version")
+    int updateEmployeeAtVersion(@Param("id") long id, @Param("version") long version,
+                                @Param("firstName") String firstName, @Param("lastName") String lastName,
+                                @Param("email") String email);
+
+    // single-statement partial update: null parameters keep the current column value
+    @Transactional
+    @Modifying
+    @Query("UPDATE Employee e SET e.firstName = COALESCE(:firstName, e.firstName), "
+            + "e.lastName = COALESCE(:lastName, e.lastName), e.email = COALESCE(:email, e.email), "
+            + "e.version = e.version + 1 WHERE e.id = :id")
+    int patchEmployee(@Param("id") long id, @Param("firstName") String firstName,
+                      @Param("lastName") String lastName, @Param("email") String email);
+
+    // direct deletes: nothing is loaded first, the returned row count tells whether the ids existed
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id = :id")
+    int deleteEmployeeById(@Param("id") long id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id IN :ids")
+    int deleteEmployeesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // the ids the DELETE removed, so callers can tell deleted employees from ids that never existed; the rows are
+    // locked first, which keeps ids deleted concurrently by someone else out of the result
+    @Transactional
+    default List<Long> deleteExistingEmployeesByIdIn(Collection<Long> ids) {
+        List<Long> existingIds = lockExistingIds(ids);
+        if (!existingIds.isEmpty()) {
+            deleteEmployeesByIdIn(existingIds);
+        }
+        return existingIds;
+    }
+
+    @Query(value = "SELECT e.id FROM employees e WHERE e.id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
     // define custom query using JPQL with index parameters
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = Employee.LOOKUP_CACHE_REGION)})
     @Query("SELECT e FROM Employee e WHERE e.firstName = ?1 and e.lastName =?2")
     Employee findByJPQL(String firstName, String lastName);
 
 
     // define custom query using JPQL with named parameters
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = Employee.LOOKUP_CACHE_REGION)})
     @Query("SELECT e FROM Employee e WHERE e.firstName =:firstName and e.lastName =:lastName")
     Employee findByJPQLNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
@@ -32,4 +141,11 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query(value = "SELECT * from employees e WHERE e.first_name =:firstName and e.last_name =:lastName",
             nativeQuery = true)
     Employee findByNativeSQLNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
+
+    // the same lookup as a derived query, and as a projection that only selects the view's columns
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = Employee.LOOKUP_CACHE_REGION)})
+    Employee findByFirstNameAndLastName(String firstName, String lastName);
+
+    EmployeeView findViewByFirstNameAndLastName(String firstName, String lastName);
 }
@@ -0,0 +1,282 @@
+package net.javaguides.springboottesting.search;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeeView;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over first name, last name, full name and email for type-ahead search. Terms are
+ * kept in a sorted map, so a prefix lookup is a range scan that never touches the database. The index is
+ * loaded once at startup and then follows the writes made through this instance; writes from other
+ * instances only show up after a restart.
+ * <p>
+ * Writes reach the index after their transaction commits, so two writes to the same employee can arrive in
+ * either order. Each entry keeps the employee's version and an older version never replaces a newer one;
+ * deleted ids leave a tombstone, so a late put cannot bring a deleted employee back.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Slf4j
+// search results are serialized as IndexedEmployee, not as the EmployeeView the controller declares
+@RegisterReflectionForBinding(EmployeeSearchIndex.IndexedEmployee.class)
+@Component
+public class EmployeeSearchIndex implements SmartInitializingSingleton {
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // separates the term from the id in a key; sorts before every character a normalized term can contain
+    private static final char SEPARATOR = '\0';
+
+    private final EmployeeRepository employeeRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // searches read whichever snapshot is current, without locking; rebuild() swaps in a new one
+    private volatile Snapshot snapshot = new Snapshot();
+
+    // writers share the read lock, rebuild() takes the write lock only to swap snapshots
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // non-null while rebuild() loads: writes made meanwhile, replayed onto the new snapshot before the swap
+    private Queue<Consumer<Snapshot>> changesDuringRebuild;
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // runs before the web server starts, so no request sees a half-built index
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // searches keep using the current snapshot until the new one is complete
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        Queue<Consumer<Snapshot>> changes = new ConcurrentLinkedQueue<>();
+        swapLock.writeLock().lock();
+        try {
+            changesDuringRebuild = changes;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Snapshot rebuilt = new Snapshot();
+        try {
+            // not read-only: the index is loaded from the primary even when a replica is configured
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Employee> employees = employeeRepository.streamAllDetached()) {
+                    employees.forEach(employee -> rebuilt.put(IndexedEmployee.of(employee)));
+                }
+            });
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            // ids are never reused, so tombstones carry over; then the writes the load may have missed
+            snapshot.tombstones.forEach(rebuilt::remove);
+            changes.forEach(change -> change.accept(rebuilt));
+            snapshot = rebuilt;
+            changesDuringRebuild = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.info("Indexed {} employees for search in {} ms", rebuilt.employees.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public List<EmployeeView> search(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Snapshot current = snapshot;
+
+        // an employee can match on several terms; keep the first (alphabetically lowest) hit
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : current.terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            if (ids.add(id) && ids.size() == maxResults) {
+                break;
+            }
+        }
+
+        List<EmployeeView> matches = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            IndexedEmployee employee = current.employees.get(id);
+            if (employee != null) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    // the employee as committed, with the version its write produced
+    public void put(Employee employee) {
+        IndexedEmployee indexed = IndexedEmployee.of(employee);
+        afterCommit(() -> apply(current -> current.put(indexed)));
+    }
+
+    public void remove(long id) {
+        afterCommit(() -> apply(current -> current.remove(id)));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        ids.forEach(this::remove);
+    }
+
+    public int size() {
+        return snapshot.employees.size();
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(snapshot);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> termsOf(IndexedEmployee employee) {
+        Set<String> employeeTerms = new LinkedHashSet<>();
+        employeeTerms.add(normalize(employee.getFirstName()));
+        employeeTerms.add(normalize(employee.getLastName()));
+        if (employee.getFirstName() != null && employee.getLastName() != null) {
+            employeeTerms.add(normalize(employee.getFirstName() + " " + employee.getLastName()));
+        }
+        employeeTerms.add(normalize(employee.getEmail()));
+        employeeTerms.remove("");
+        return employeeTerms;
+    }
+
+    private static String key(String term, long id) {
+        return term + SEPARATOR + id;
+    }
+
+    // case and accent insensitive: "José" and "jose" are the same term
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT)
+                .replace(String.valueOf(SEPARATOR), "");
+    }
+
+    // inside a transaction the index changes once it commits, so a rollback never leaves phantom entries
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static final class Snapshot {
+
+        // "term\0id" -> id: the id suffix keeps keys unique when several employees share a term
+        private final NavigableMap<String, Long> terms = new ConcurrentSkipListMap<>();
+
+        private final Map<Long, IndexedEmployee> employees = new ConcurrentHashMap<>();
+
+        // ids are never reused, so a deleted id stays deleted; one entry per delete until the next restart
+        private final Set<Long> tombstones = ConcurrentHashMap.newKeySet();
+
+        // compute serializes changes to the same employee, so its terms never belong to two versions
+        void put(IndexedEmployee indexed) {
+            employees.compute(indexed.getId(), (id, current) -> {
+                if (tombstones.contains(id) || current != null && current.getVersion() >= indexed.getVersion()) {
+                    return current;
+                }
+                replaceTerms(current, indexed);
+                return indexed;
+            });
+        }
+
+        void remove(long id) {
+            employees.compute(id, (key, current) -> {
+                tombstones.add(id);
+                replaceTerms(current, null);
+                return null;
+            });
+        }
+
+        private void replaceTerms(IndexedEmployee current, IndexedEmployee replacement) {
+            if (current != null) {
+                termsOf(current).forEach(term -> terms.remove(key(term, current.getId())));
+            }
+            if (replacement != null) {
+                termsOf(replacement).forEach(term -> terms.put(key(term, replacement.getId()), replacement.getId()));
+            }
+        }
+    }
+
+    @Value
+    static class IndexedEmployee implements EmployeeView {
+        long id;
+        String firstName;
+        String lastName;
+        String email;
+        // orders the writes to one employee; not part of the search result
+        @JsonIgnore
+        long version;
+
+        static IndexedEmployee of(Employee employee) {
+            return new IndexedEmployee(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                    employee.getEmail(), Objects.requireNonNull(employee.getVersion(), "version"));
+        }
+    }
+}
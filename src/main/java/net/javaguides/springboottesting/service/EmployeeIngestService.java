@@ -0,0 +1,17 @@
+package net.javaguides.springboottesting.service;
+
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.IngestJob;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author Donald F. Coffin
+ */
+public interface EmployeeIngestService {
+
+    IngestJob submit(List<Employee> employees);
+
+    Optional<IngestJob> getJob(String id);
+}
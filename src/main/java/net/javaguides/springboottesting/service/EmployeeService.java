@@ -1,9 +1,14 @@
 package net.javaguides.springboottesting.service;
 
 import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeePage;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @author Donald F. Coffin
@@ -12,11 +17,29 @@ public interface EmployeeService {
 
     Employee saveEmployee(Employee employee);
 
+    List<Employee> saveEmployees(List<Employee> employees);
+
     List<Employee> getAllEmployees();
 
+    List<EmployeeSummary> getEmployeeSummaries();
+
+    Optional<EmployeeView> findEmployeeViewByEmail(String email);
+
+    List<EmployeeView> searchEmployees(String query, int limit);
+
+    EmployeePage getEmployeePage(String cursor, int limit);
+
+    void exportEmployees(Consumer<Employee> consumer);
+
     Optional<Employee> getEmployeeById(long id);
 
     Employee updateEmployee(Employee employee);
 
+    Employee updateEmployee(Employee employee, long expectedVersion);
+
+    void patchEmployee(long id, Employee employee);
+
     void deleteEmployee(long id);
+
+    int deleteEmployees(Collection<Long> ids);
 }
@@ -0,0 +1,216 @@
+package net.javaguides.springboottesting.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboottesting.config.IngestProperties;
+import net.javaguides.springboottesting.exception.DataIntegrityViolations;
+import net.javaguides.springboottesting.exception.IngestJobTooLargeException;
+import net.javaguides.springboottesting.exception.IngestQueueFullException;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.IngestItem;
+import net.javaguides.springboottesting.model.IngestJob;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
+import net.javaguides.springboottesting.service.EmployeeIngestService;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Write-behind creates: accepted employees wait in a bounded in-memory queue and a single writer thread
+ * inserts them in batched transactions, recording an outcome per employee. Queued employees are lost if the
+ * process dies; a graceful shutdown writes them first.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Slf4j
+public class EmployeeIngestServiceImpl implements EmployeeIngestService, SmartLifecycle {
+
+    private final EmployeeRepository employeeRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final EmployeeSearchIndex searchIndex;
+
+    private final IngestProperties properties;
+
+    // capacity is reserved per job, so a job is accepted whole or not at all
+    private final Semaphore capacity;
+
+    private final BlockingQueue<IngestItem> queue = new LinkedBlockingQueue<>();
+
+    private final Cache<String, IngestJob> jobs;
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    public EmployeeIngestServiceImpl(EmployeeRepository employeeRepository, TransactionTemplate transactionTemplate,
+                                     EmployeeSearchIndex searchIndex, IngestProperties properties) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.searchIndex = searchIndex;
+        this.properties = properties;
+        this.capacity = new Semaphore(properties.getQueueCapacity());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getRetention())
+                .build();
+    }
+
+    @Override
+    public IngestJob submit(List<Employee> employees) {
+        if (employees.size() > properties.getQueueCapacity()) {
+            throw new IngestJobTooLargeException("At most " + properties.getQueueCapacity()
+                    + " employees can be ingested per request");
+        }
+        if (!capacity.tryAcquire(employees.size())) {
+            throw new IngestQueueFullException("Ingest queue is full, retry later", properties.getRetryAfter());
+        }
+
+        List<IngestItem> items = IntStream.range(0, employees.size())
+                .mapToObj(index -> new IngestItem(index, employees.get(index)))
+                .toList();
+        IngestJob job = new IngestJob(UUID.randomUUID().toString(), Instant.now(), items);
+        jobs.put(job.getId(), job);
+        queue.addAll(items);
+        return job;
+    }
+
+    @Override
+    public Optional<IngestJob> getJob(String id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    private void drain() {
+        List<IngestItem> batch = new ArrayList<>(properties.getBatchSize());
+        // keeps going after stop() until everything accepted so far is written
+        while (running || !queue.isEmpty()) {
+            try {
+                IngestItem first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Ingest batch of {} employees failed", batch.size(), e);
+                batch.stream()
+                        .filter(item -> item.getStatus() == IngestItem.Status.PENDING)
+                        .forEach(item -> item.failed(e.getMessage()));
+            } finally {
+                capacity.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    void writeBatch(List<IngestItem> batch) {
+        // duplicates within the batch and against the table are settled with one query instead of failing the insert
+        Set<String> emails = new HashSet<>();
+        List<IngestItem> candidates = new ArrayList<>(batch.size());
+        for (IngestItem item : batch) {
+            if (emails.add(item.getEmail())) {
+                candidates.add(item);
+            } else {
+                item.duplicateEmail();
+            }
+        }
+        Set<String> existingEmails = new HashSet<>(employeeRepository.findExistingEmails(emails));
+        candidates.removeIf(item -> {
+            if (existingEmails.contains(item.getEmail())) {
+                item.duplicateEmail();
+                return true;
+            }
+            return false;
+        });
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Employee> savedEmployees = transactionTemplate.execute(status -> {
+                List<Employee> saved = employeeRepository.saveAll(candidates.stream().map(IngestItem::getEmployee)
+                        .map(EmployeeIngestServiceImpl::copyOf).toList());
+                employeeRepository.flush();
+                return saved;
+            });
+            for (int i = 0; i < candidates.size(); i++) {
+                candidates.get(i).created(savedEmployees.get(i).getId());
+                searchIndex.put(savedEmployees.get(i));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // another writer took one of the emails after the check: one transaction per employee to find it
+            candidates.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(IngestItem item) {
+        try {
+            Employee savedEmployee = employeeRepository.saveAndFlush(copyOf(item.getEmployee()));
+            item.created(savedEmployee.getId());
+            searchIndex.put(savedEmployee);
+        } catch (DataIntegrityViolationException e) {
+            if (DataIntegrityViolations.isDuplicateEmail(e)) {
+                item.duplicateEmail();
+            } else {
+                item.failed(e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    // fresh instances: a rolled back batch leaves ids and versions on the entities it tried to persist
+    private static Employee copyOf(Employee employee) {
+        return Employee.builder()
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .build();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "employee-ingest");
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // starts before and stops after the web server, so nothing is accepted that the writer will not write
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
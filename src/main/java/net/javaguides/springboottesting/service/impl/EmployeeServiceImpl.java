@@ -1,57 +1,283 @@
 package net.javaguides.springboottesting.service.impl;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import net.javaguides.springboottesting.config.CacheConfig;
+import net.javaguides.springboottesting.exception.DataIntegrityViolations;
+import net.javaguides.springboottesting.exception.InvalidCursorException;
+import net.javaguides.springboottesting.exception.ResourceAlreadyExistsException;
 import net.javaguides.springboottesting.exception.ResourceNotFoundException;
+import net.javaguides.springboottesting.exception.VersionConflictException;
 import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeePage;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
 import net.javaguides.springboottesting.repository.EmployeeRepository;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
 import net.javaguides.springboottesting.service.EmployeeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * @author Donald F. Coffin
  */
 
 @AllArgsConstructor
+// one employee.service timer per method (class and method tags), with a percentile histogram
+@Timed(value = "employee.service", histogram = true)
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static final int DELETE_CHUNK_SIZE = 1000;
+
     EmployeeRepository employeeRepository;
 
+    EntityManager entityManager;
+
+    EmployeeSearchIndex searchIndex;
+
     @Override
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#result.id")
     public Employee saveEmployee(Employee employee) {
 
-        Optional<Employee> savedEmployee = employeeRepository.findByEmail(employee.getEmail());
+        // a single INSERT; the unique email index rejects duplicates, even between concurrent creates
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateEmailOrRethrow(e, employee.getEmail());
+        }
+        searchIndex.put(savedEmployee);
+        return savedEmployee;
+    }
 
-        if(savedEmployee.isPresent()) {
-            throw new ResourceNotFoundException("Employee already exist with given email: " + employee.getEmail());
+    @Override
+    @Transactional
+    public List<Employee> saveEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return employees;
         }
 
-        return employeeRepository.save(employee);
+        Set<String> emails = new HashSet<>();
+        List<String> duplicateEmails = new ArrayList<>();
+        for (Employee employee : employees) {
+            if (!emails.add(employee.getEmail())) {
+                duplicateEmails.add(employee.getEmail());
+            }
+        }
+        duplicateEmails.addAll(employeeRepository.findExistingEmails(emails));
+
+        if (!duplicateEmails.isEmpty()) {
+            throw new ResourceAlreadyExistsException("Employees already exist with given emails: " + duplicateEmails);
+        }
+
+        try {
+            List<Employee> savedEmployees = employeeRepository.saveAll(employees);
+            employeeRepository.flush();
+            savedEmployees.forEach(searchIndex::put);
+            return savedEmployees;
+        } catch (DataIntegrityViolationException e) {
+            // another request inserted one of the emails after the duplicate check
+            if (DataIntegrityViolations.isDuplicateEmail(e)) {
+                throw new ResourceAlreadyExistsException("Employees already exist with given emails", e);
+            }
+            throw e;
+        }
     }
 
+    // read-only transactions go to the replica when app.datasource.replica.url is set
     @Override
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    // the projections carry no dirty-checking snapshots, read-only only skips the flush at commit
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeSummary> getEmployeeSummaries() {
+        return employeeRepository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmployeeView> findEmployeeViewByEmail(String email) {
+        return employeeRepository.findViewByEmail(email);
+    }
+
+    // served from memory, no transaction or query involved
+    @Override
+    public List<EmployeeView> searchEmployees(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeePage(String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long afterId = (cursor == null || cursor.isEmpty()) ? 0L : decodeCursor(cursor);
+
+        // read one extra row to learn whether another page follows, without a COUNT query
+        List<Employee> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(afterId,
+                PageRequest.of(0, pageSize + 1));
+
+        if (employees.size() <= pageSize) {
+            return new EmployeePage(employees, null);
+        }
+
+        List<Employee> content = employees.subList(0, pageSize);
+        return new EmployeePage(content, encodeCursor(content.get(pageSize - 1).getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                // detach as we go so the persistence context does not grow with the table
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    // not read-only on purpose: the result fills the shared employees cache, so it must come from the primary and
+    // not from a replica that may still hold the row as it was before the last update
     @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id", unless = "#result == null")
+    @Transactional
     public Optional<Employee> getEmployeeById(long id) {
         return employeeRepository.findById(id);
     }
 
+    // one transaction for the UPDATE and the version read-back, so the cached employee can be replaced
     @Override
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#result.id")
+    @Transactional
     public Employee updateEmployee(Employee updatedEmployee) {
-        return employeeRepository.save(updatedEmployee);
+        int updatedRows;
+        try {
+            updatedRows = employeeRepository.updateEmployee(updatedEmployee.getId(), updatedEmployee.getFirstName(),
+                    updatedEmployee.getLastName(), updatedEmployee.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateEmailOrRethrow(e, updatedEmployee.getEmail());
+        }
+
+        if (updatedRows == 0) {
+            throw new ResourceNotFoundException("Employee not found with given id: " + updatedEmployee.getId());
+        }
+        updatedEmployee.setVersion(employeeRepository.findVersionById(updatedEmployee.getId()).orElseThrow());
+        searchIndex.put(updatedEmployee);
+        return updatedEmployee;
+    }
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#result.id")
+    public Employee updateEmployee(Employee updatedEmployee, long expectedVersion) {
+        int updatedRows;
+        try {
+            updatedRows = employeeRepository.updateEmployeeAtVersion(updatedEmployee.getId(), expectedVersion,
+                    updatedEmployee.getFirstName(), updatedEmployee.getLastName(), updatedEmployee.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateEmailOrRethrow(e, updatedEmployee.getEmail());
+        }
+
+        // only a failed update pays for the second query that tells a missing employee from a stale version
+        if (updatedRows == 0) {
+            if (!employeeRepository.existsById(updatedEmployee.getId())) {
+                throw new ResourceNotFoundException("Employee not found with given id: " + updatedEmployee.getId());
+            }
+            throw new VersionConflictException("Employee " + updatedEmployee.getId()
+                    + " has been modified since version " + expectedVersion);
+        }
+        updatedEmployee.setVersion(expectedVersion + 1);
+        searchIndex.put(updatedEmployee);
+        return updatedEmployee;
+    }
+
+    // the patched row is read back in the same transaction, so the search index gets every field and the version
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    @Transactional
+    public void patchEmployee(long id, Employee employee) {
+        int updatedRows;
+        try {
+            updatedRows = employeeRepository.patchEmployee(id, employee.getFirstName(), employee.getLastName(),
+                    employee.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateEmailOrRethrow(e, employee.getEmail());
+        }
+
+        if (updatedRows == 0) {
+            throw new ResourceNotFoundException("Employee not found with given id: " + id);
+        }
+        employeeRepository.findDetachedById(id).ifPresent(searchIndex::put);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
     public void deleteEmployee(long id) {
-        employeeRepository.deleteById(id);
+        if (employeeRepository.deleteEmployeeById(id) == 0) {
+            throw new ResourceNotFoundException("Employee not found with given id: " + id);
+        }
+        searchIndex.remove(id);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, allEntries = true)
+    public int deleteEmployees(Collection<Long> ids) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+
+        // one DELETE ... WHERE id IN (...) per chunk, each committed on its own to keep lock hold times short.
+        // Only ids that were deleted leave a search tombstone: an unknown id may still be handed out later
+        List<Long> deletedIds = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size()));
+            deletedIds.addAll(employeeRepository.deleteExistingEmployeesByIdIn(chunk));
+        }
+        searchIndex.removeAll(deletedIds);
+        return deletedIds.size();
     }
 
+    private static RuntimeException duplicateEmailOrRethrow(DataIntegrityViolationException exception, String email) {
+        if (DataIntegrityViolations.isDuplicateEmail(exception)) {
+            return new ResourceAlreadyExistsException("Employee already exist with given email: " + email, exception);
+        }
+        return exception;
+    }
+
+    static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid page cursor: " + cursor, e);
+        }
+    }
 
 }
@@ -0,0 +1,10 @@
+-- the table as the former ddl-auto=update left it; databases created that way are baselined at this version,
+-- so everything they may be missing goes into V1_1
+CREATE TABLE employees
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    email      VARCHAR(255),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,2 @@
+-- serves findByJPQL, findByJPQLNamedParams, findByNativeSQL and findByNativeSQLNamedParams
+CREATE INDEX idx_employees_last_name_first_name ON employees (last_name, first_name);
@@ -0,0 +1,12 @@
+-- pooled table id generator used by the pooled-table profile (META-INF/orm-pooled-table.xml)
+CREATE TABLE employees_id_generator
+(
+    generator_name VARCHAR(255) NOT NULL,
+    next_value     BIGINT,
+    PRIMARY KEY (generator_name)
+);
+
+-- start above the ids already handed out by AUTO_INCREMENT (allocation size 50)
+INSERT INTO employees_id_generator (generator_name, next_value)
+SELECT 'employees', COALESCE(MAX(id), 0) + 50
+FROM employees;
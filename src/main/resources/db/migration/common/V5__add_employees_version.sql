@@ -0,0 +1,2 @@
+-- optimistic locking: every update bumps the version, PUT with If-Match only applies at the expected one
+ALTER TABLE employees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- also runs on databases baselined at V1; saveEmployee and ingest rely on uk_employees_email to reject
+-- duplicates, so existing duplicate emails make this migration fail instead of being carried over
+ALTER TABLE employees ALTER COLUMN first_name SET NOT NULL;
+ALTER TABLE employees ALTER COLUMN last_name SET NOT NULL;
+ALTER TABLE employees ALTER COLUMN email SET NOT NULL;
+ALTER TABLE employees ADD CONSTRAINT uk_employees_email UNIQUE (email);
@@ -0,0 +1,2 @@
+-- pooled sequence used by the pooled-sequence profile (META-INF/orm-pooled-sequence.xml)
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
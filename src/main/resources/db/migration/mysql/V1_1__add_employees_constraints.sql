@@ -0,0 +1,7 @@
+-- also runs on databases baselined at V1; saveEmployee and ingest rely on uk_employees_email to reject
+-- duplicates, so existing duplicate emails make this migration fail instead of being carried over
+ALTER TABLE employees
+    MODIFY first_name VARCHAR(255) NOT NULL,
+    MODIFY last_name VARCHAR(255) NOT NULL,
+    MODIFY email VARCHAR(255) NOT NULL,
+    ADD CONSTRAINT uk_employees_email UNIQUE (email);
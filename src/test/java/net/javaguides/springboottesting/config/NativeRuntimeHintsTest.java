@@ -0,0 +1,53 @@
+package net.javaguides.springboottesting.config;
+
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.data.projection.TargetAware;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+class NativeRuntimeHintsTest {
+
+    // JUnit test for native runtime hints
+    @DisplayName("JUnit test for native runtime hints")
+    @Test
+    public void givenRegistrar_whenRegisterHints_thenCoverLookupsByNameAndRuntimeProxies() {
+        // given - precondition or setup
+        RuntimeHints hints = new RuntimeHints();
+
+        // when - action or the behaviour that we are going to test
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then - verify the output
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/common/V1__create_employees_table.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/h2/V4__create_employees_seq.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("application.conf")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeSummary.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Employee.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(
+                AopProxyUtils.completeJdkProxyInterfaces(EmployeeView.class, TargetAware.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, PreparedStatement.class))
+                .accepts(hints);
+    }
+}
@@ -1,13 +1,23 @@
 package net.javaguides.springboottesting.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import net.javaguides.springboottesting.config.HttpCacheProperties;
+import net.javaguides.springboottesting.exception.ResourceAlreadyExistsException;
+import net.javaguides.springboottesting.exception.ResourceNotFoundException;
+import net.javaguides.springboottesting.exception.VersionConflictException;
 import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeePage;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
 import net.javaguides.springboottesting.service.EmployeeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -15,21 +25,29 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * @author Donald F. Coffin
  */
 
 @WebMvcTest
+@EnableConfigurationProperties(HttpCacheProperties.class)
 class EmployeeControllerTest {
 
     @Autowired
@@ -71,6 +89,59 @@ class EmployeeControllerTest {
                         is(employee.getEmail())));
     }
 
+    // JUnit test for create Employee REST API (duplicate email)
+    @DisplayName("JUnit test for create Employee REST API (duplicate email)")
+    @Test
+    public void givenDuplicateEmail_whenCreateEmployee_thenReturn409() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+
+        given(employeeService.saveEmployee(any(Employee.class)))
+                .willThrow(new ResourceAlreadyExistsException("Employee already exist with given email: "
+                        + employee.getEmail()));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then - verify the results or output using assert statements
+        response.andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status", is(409)));
+    }
+
+    // JUnit test for create Employees batch REST API
+    @DisplayName("JUnit test for create Employees batch REST API")
+    @Test
+    public void givenListOfEmployees_whenCreateEmployees_thenReturnSavedEmployees() throws Exception {
+        // given - precondition or setup
+        List<Employee> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(Employee.builder().firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com")
+                .build());
+        listOfEmployees.add(Employee.builder().firstName("Tony").lastName("Stark").email("tony@gmail.com")
+                .build());
+
+        given(employeeService.saveEmployees(any()))
+                .willAnswer((invocation) -> invocation.getArgument(0));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(listOfEmployees)));
+
+        // then - verify the results or output using assert statements
+        response.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$[1].email", is("tony@gmail.com")));
+    }
+
     // JUnit test for Get All employees REST API
     @DisplayName("JUnit test for Get All employees REST API")
     @Test
@@ -94,6 +165,153 @@ class EmployeeControllerTest {
                         is(listOfEmployees.size())));
     }
 
+    // JUnit test for Get employees page REST API
+    @DisplayName("JUnit test for Get employees page REST API")
+    @Test
+    public void givenCursorAndLimit_whenGetEmployeePage_thenReturnEmployeePage() throws Exception {
+        // given - precondition or setup
+        List<Employee> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(Employee.builder().firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com")
+                .build());
+        listOfEmployees.add(Employee.builder().firstName("Tony").lastName("Stark").email("tony@gmail.com")
+                .build());
+
+        given(employeeService.getEmployeePage("MTA", 2)).willReturn(new EmployeePage(listOfEmployees, "MTI"));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .param("after", "MTA")
+                .param("limit", "2"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.content.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$.nextCursor", is("MTI")));
+    }
+
+    // JUnit test for Get employee summaries REST API
+    @DisplayName("JUnit test for Get employee summaries REST API")
+    @Test
+    public void givenEmployeeSummaries_whenGetEmployeeSummaries_thenReturnSummariesList() throws Exception {
+        // given - precondition or setup
+        given(employeeService.getEmployeeSummaries()).willReturn(List.of(
+                new EmployeeSummary(1L, "Ramesh", "Fadatare"),
+                new EmployeeSummary(2L, "Tony", "Stark")));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/summaries"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[1].id", is(2)))
+                .andExpect(jsonPath("$[1].lastName", is("Stark")))
+                .andExpect(jsonPath("$[1].email").doesNotExist());
+    }
+
+    // JUnit test for search employees REST API
+    @DisplayName("JUnit test for search employees REST API")
+    @Test
+    public void givenSearchQuery_whenSearchEmployees_thenReturnMatchingViews() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+        EmployeeView employeeView = new SpelAwareProxyProjectionFactory()
+                .createProjection(EmployeeView.class, employee);
+        given(employeeService.searchEmployees("ram", EmployeeSearchIndex.DEFAULT_LIMIT))
+                .willReturn(List.of(employeeView));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/search").param("q", "ram"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].email", is(employee.getEmail())));
+    }
+
+    // JUnit test for lookup employee by email REST API
+    @DisplayName("JUnit test for lookup employee by email REST API")
+    @Test
+    public void givenEmployeeEmail_whenLookupEmployee_thenReturnEmployeeView() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+        EmployeeView employeeView = new SpelAwareProxyProjectionFactory()
+                .createProjection(EmployeeView.class, employee);
+        given(employeeService.findEmployeeViewByEmail(employee.getEmail())).willReturn(Optional.of(employeeView));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/lookup")
+                .param("email", employee.getEmail()));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.firstName", is(employee.getFirstName())))
+                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+    }
+
+    // JUnit test for lookup employee by email REST API (negative scenario)
+    @DisplayName("JUnit test for lookup employee by email REST API (negative scenario)")
+    @Test
+    public void givenUnknownEmail_whenLookupEmployee_thenReturn404() throws Exception {
+        // given - precondition or setup
+        given(employeeService.findEmployeeViewByEmail("unknown@gmail.com")).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/lookup")
+                .param("email", "unknown@gmail.com"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    // JUnit test for export employees REST API
+    @DisplayName("JUnit test for export employees REST API")
+    @Test
+    public void givenListOfEmployees_whenExportEmployees_thenStreamNewlineDelimitedJson() throws Exception {
+        // given - precondition or setup
+        List<Employee> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(Employee.builder().firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com")
+                .build());
+        listOfEmployees.add(Employee.builder().firstName("Tony").lastName("Stark").email("tony@gmail.com")
+                .build());
+
+        willAnswer((invocation) -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            listOfEmployees.forEach(consumer);
+            return null;
+        }).given(employeeService).exportEmployees(any());
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted());
+
+        // then - verify the result or output using assert statements
+        mockMvc.perform(asyncDispatch(response.andReturn()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(listOfEmployees.get(0)) + "\n"
+                                + objectMapper.writeValueAsString(listOfEmployees.get(1)) + "\n"));
+    }
+
     // Positive scenario - valid employee id
     // JUnit test for GET employee by id REST API (Positive scenario)
     @DisplayName("JUnit test for GET employee by id REST API (Positive scenario)")
@@ -145,6 +363,112 @@ class EmployeeControllerTest {
                 .andDo(print());
     }
 
+    // JUnit test for conditional GET employee by id REST API
+    @DisplayName("JUnit test for GET employee by id REST API with ETag and Cache-Control")
+    @Test
+    public void givenEmployeeId_whenGetEmployeeById_thenReturnETagAndCacheControl() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .version(3L)
+                .build();
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(header().string("Cache-Control", "max-age=0, stale-while-revalidate=30"));
+    }
+
+    // JUnit test for conditional GET employee by id REST API (not modified)
+    @DisplayName("JUnit test for conditional GET employee by id REST API (not modified)")
+    @Test
+    public void givenMatchingIfNoneMatch_whenGetEmployeeById_thenReturn304WithoutBody() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .version(3L)
+                .build();
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(employee));
+        String eTag = mockMvc.perform(get("/api/employees/{id}", 1L))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L)
+                .header("If-None-Match", eTag));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+    }
+
+    // JUnit test for conditional GET employee by id REST API (modified)
+    @DisplayName("JUnit test for conditional GET employee by id REST API (modified)")
+    @Test
+    public void givenChangedEmployee_whenGetEmployeeByIdWithOldETag_thenReturn200() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .version(3L)
+                .build();
+        Employee updatedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .version(4L)
+                .build();
+        given(employeeService.getEmployeeById(1L))
+                .willReturn(Optional.of(employee), Optional.of(updatedEmployee));
+        String eTag = mockMvc.perform(get("/api/employees/{id}", 1L))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L)
+                .header("If-None-Match", eTag));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.firstName", is("Ram")));
+    }
+
+    // JUnit test for conditional GET all employees REST API (not modified)
+    @DisplayName("JUnit test for conditional GET all employees REST API (not modified)")
+    @Test
+    public void givenMatchingIfNoneMatch_whenGetAllEmployees_thenReturn304WithoutBody() throws Exception {
+        // given - precondition or setup
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().id(1L).firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").version(3L)
+                        .build(),
+                Employee.builder().id(2L).firstName("Tony").lastName("Stark").email("tony@gmail.com").version(0L)
+                        .build());
+        given(employeeService.getAllEmployees()).willReturn(listOfEmployees);
+        String eTag = mockMvc.perform(get("/api/employees"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .header("If-None-Match", eTag));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     // Positive scenario - valid employee id
     // JUnit test for update employee REST API (Positive scenario)
     @DisplayName("JUnit test for update employee REST API (Positive scenario)")
@@ -165,9 +489,12 @@ class EmployeeControllerTest {
                 .email("ram@gmail.com")
                 .build();
 
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(savedEmployee));
         given(employeeService.updateEmployee(any(Employee.class)))
-                .willAnswer((invocation) -> invocation.getArgument(0));
+                .willAnswer((invocation) -> {
+                    Employee employee = invocation.getArgument(0);
+                    employee.setVersion(4L);
+                    return employee;
+                });
 
         // when - action or the behaviour that we are going to test
         ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
@@ -177,6 +504,8 @@ class EmployeeControllerTest {
         // then - verify the result or output using assert statements
         response.andExpect(status().isOk())
                 .andDo(print())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version", is(4)))
                 .andExpect(jsonPath("$.firstName", is(updatedEmployee.getFirstName())))
                 .andExpect(jsonPath("$.lastName", is(updatedEmployee.getLastName())))
                 .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())));
@@ -202,9 +531,8 @@ class EmployeeControllerTest {
                 .email("ram@gmail.com")
                 .build();
 
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.empty());
         given(employeeService.updateEmployee(any(Employee.class)))
-                .willAnswer((invocation) -> invocation.getArgument(0));
+                .willThrow(new ResourceNotFoundException("Employee not found with given id: " + employeeId));
 
         // when - action or the behaviour that we are going to test
         ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
@@ -216,6 +544,126 @@ class EmployeeControllerTest {
                 .andDo(print());
     }
 
+    // JUnit test for conditional update employee REST API
+    @DisplayName("JUnit test for conditional update employee REST API")
+    @Test
+    public void givenMatchingIfMatch_whenUpdateEmployee_thenReturnUpdatedEmployeeWithNewETag() throws Exception {
+        // given - precondition or setup
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@gmail.com")
+                .build();
+        given(employeeService.updateEmployee(any(Employee.class), eq(3L)))
+                .willAnswer((invocation) -> {
+                    Employee employee = invocation.getArgument(0);
+                    employee.setVersion(4L);
+                    return employee;
+                });
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", 1L)
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version", is(4)))
+                .andExpect(jsonPath("$.firstName", is(updatedEmployee.getFirstName())));
+    }
+
+    // JUnit test for conditional update employee REST API (stale version)
+    @DisplayName("JUnit test for conditional update employee REST API (stale version)")
+    @Test
+    public void givenStaleIfMatch_whenUpdateEmployee_thenReturn412() throws Exception {
+        // given - precondition or setup
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@gmail.com")
+                .build();
+        given(employeeService.updateEmployee(any(Employee.class), eq(2L)))
+                .willThrow(new VersionConflictException("Employee 1 has been modified since version 2"));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", 1L)
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isPreconditionFailed())
+                .andDo(print())
+                .andExpect(jsonPath("$.title", is("Version conflict")));
+    }
+
+    // JUnit test for conditional update employee REST API (weak ETag)
+    @DisplayName("JUnit test for conditional update employee REST API (weak ETag)")
+    @Test
+    public void givenWeakIfMatch_whenUpdateEmployee_thenReturn412WithoutUpdating() throws Exception {
+        // given - precondition or setup
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@gmail.com")
+                .build();
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", 1L)
+                .header("If-Match", "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isPreconditionFailed())
+                .andDo(print());
+        verify(employeeService, never()).updateEmployee(any(Employee.class));
+        verify(employeeService, never()).updateEmployee(any(Employee.class), anyLong());
+    }
+
+    // JUnit test for patch employee REST API
+    @DisplayName("JUnit test for patch employee REST API")
+    @Test
+    public void givenPartialEmployee_whenPatchEmployee_thenReturn204() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+
+        willDoNothing().given(employeeService).patchEmployee(eq(employeeId), any(Employee.class));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"ram@gmail.com\"}"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNoContent())
+                .andDo(print());
+    }
+
+    // Negative scenario - invalid employee id
+    // JUnit test for patch employee REST API (Negative scenario)
+    @DisplayName("JUnit test for patch employee REST API (Negative scenario)")
+    @Test
+    public void givenInvalidEmployeeId_whenPatchEmployee_thenReturn404() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+
+        willThrow(new ResourceNotFoundException("Employee not found with given id: " + employeeId))
+                .given(employeeService).patchEmployee(eq(employeeId), any(Employee.class));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"ram@gmail.com\"}"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
     // JUnit test for delete employee REST API
     @DisplayName("JUnit test for delete employee REST API")
     @Test
@@ -232,4 +680,39 @@ class EmployeeControllerTest {
         response.andExpect(status().isOk())
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    // Negative scenario - invalid employee id
+    // JUnit test for delete employee REST API (Negative scenario)
+    @DisplayName("JUnit test for delete employee REST API (Negative scenario)")
+    @Test
+    public void givenInvalidEmployeeId_whenDeleteEmployee_thenReturn404() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+
+        willThrow(new ResourceNotFoundException("Employee not found with given id: " + employeeId))
+                .given(employeeService).deleteEmployee(employeeId);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(delete("/api/employees/{id}", employeeId));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    // JUnit test for bulk delete employees REST API
+    @DisplayName("JUnit test for bulk delete employees REST API")
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount() throws Exception {
+        // given - precondition or setup
+        given(employeeService.deleteEmployees(List.of(1L, 2L, 3L))).willReturn(2);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(delete("/api/employees").param("ids", "1,2,3"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(content().string("2 employees deleted successfully!."));
+    }
+}
@@ -0,0 +1,132 @@
+package net.javaguides.springboottesting.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.javaguides.springboottesting.exception.IngestQueueFullException;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.IngestItem;
+import net.javaguides.springboottesting.model.IngestJob;
+import net.javaguides.springboottesting.service.EmployeeIngestService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@WebMvcTest(controllers = EmployeeIngestController.class, properties = "app.ingest.enabled=true")
+class EmployeeIngestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeIngestService employeeIngestService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Employee employee = Employee.builder()
+            .firstName("Ramesh")
+            .lastName("Fadatare")
+            .email("ramesh@gmail.com")
+            .build();
+
+    // JUnit test for ingest employees REST API
+    @DisplayName("JUnit test for ingest employees REST API")
+    @Test
+    public void givenListOfEmployees_whenIngestEmployees_thenReturn202WithJobLocation() throws Exception {
+        // given - precondition or setup
+        IngestJob job = new IngestJob("job-1", Instant.now(), List.of(new IngestItem(0, employee)));
+        given(employeeIngestService.submit(anyList())).willReturn(job);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(employee))));
+
+        // then - verify the result or output using assert statements
+        response.andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/employees/ingest/job-1"))
+                .andExpect(jsonPath("$.id", is("job-1")))
+                .andExpect(jsonPath("$.pending", is(1)))
+                .andExpect(jsonPath("$.items[0].status", is("PENDING")));
+    }
+
+    // JUnit test for ingest employees REST API (queue full)
+    @DisplayName("JUnit test for ingest employees REST API (queue full)")
+    @Test
+    public void givenFullQueue_whenIngestEmployees_thenReturn429WithRetryAfter() throws Exception {
+        // given - precondition or setup
+        given(employeeIngestService.submit(anyList()))
+                .willThrow(new IngestQueueFullException("Ingest queue is full, retry later", Duration.ofSeconds(2)));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(employee))));
+
+        // then - verify the result or output using assert statements
+        response.andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.title", is("Ingest queue full")));
+    }
+
+    // JUnit test for get ingest job REST API
+    @DisplayName("JUnit test for get ingest job REST API")
+    @Test
+    public void givenFinishedJob_whenGetIngestJob_thenReturnOutcomePerEmployee() throws Exception {
+        // given - precondition or setup
+        IngestItem created = new IngestItem(0, employee);
+        created.created(1L);
+        IngestItem duplicate = new IngestItem(1, employee);
+        duplicate.duplicateEmail();
+        given(employeeIngestService.getJob("job-1"))
+                .willReturn(Optional.of(new IngestJob("job-1", Instant.now(), List.of(created, duplicate))));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/ingest/{id}", "job-1"));
+
+        // then - verify the result or output using assert statements
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.done", is(true)))
+                .andExpect(jsonPath("$.items[0].employeeId", is(1)))
+                .andExpect(jsonPath("$.items[1].status", is("DUPLICATE_EMAIL")));
+    }
+
+    // JUnit test for get ingest job REST API (negative scenario)
+    @DisplayName("JUnit test for get ingest job REST API (negative scenario)")
+    @Test
+    public void givenUnknownJobId_whenGetIngestJob_thenReturn404() throws Exception {
+        // given - precondition or setup
+        given(employeeIngestService.getJob("unknown")).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/ingest/{id}", "unknown"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+}
@@ -0,0 +1,182 @@
+package net.javaguides.springboottesting.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.protobuf.EmployeeListMessage;
+import net.javaguides.springboottesting.protobuf.EmployeeMessage;
+import net.javaguides.springboottesting.protobuf.EmployeeProtobufHttpMessageConverter;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+public class EmployeeContentNegotiationITest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private static final MediaType APPLICATION_PROTOBUF = EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+
+    private static final TypeReference<List<Employee>> EMPLOYEE_LIST = new TypeReference<>() {
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setup() {
+        employeeRepository.deleteAll();
+    }
+
+    // JUnit Integration test for get all employees REST API in Smile
+    @DisplayName("JUnit Integration test for get all employees REST API in Smile")
+    @Test
+    public void givenSmileAccept_whenGetAllEmployees_thenReturnSmileBody() throws Exception {
+        // given - precondition or setup
+        employeeRepository.saveAll(employees(2));
+
+        // when - action or the behaviour that we are going to test
+        MvcResult result = mockMvc.perform(get("/api/employees").accept(APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_SMILE))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn();
+
+        // then - verify the result or output using assert statements
+        List<Employee> employees = new ObjectMapper(new SmileFactory())
+                .readValue(result.getResponse().getContentAsByteArray(), EMPLOYEE_LIST);
+        assertThat(employees).extracting(Employee::getEmail)
+                .containsExactly("employee0@gmail.com", "employee1@gmail.com");
+    }
+
+    // JUnit Integration test for create employee REST API in CBOR
+    @DisplayName("JUnit Integration test for create employee REST API in CBOR")
+    @Test
+    public void givenCborEmployee_whenCreateEmployee_thenReturnCborBody() throws Exception {
+        // given - precondition or setup
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        Employee employee = employees(1).get(0);
+
+        // when - action or the behaviour that we are going to test
+        MvcResult result = mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(employee)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // then - verify the result or output using assert statements
+        Employee savedEmployee = cborMapper.readValue(result.getResponse().getContentAsByteArray(), Employee.class);
+        assertThat(savedEmployee.getId()).isNotNull();
+        assertThat(savedEmployee.getEmail()).isEqualTo(employee.getEmail());
+    }
+
+    // JUnit Integration test for get all employees REST API in Protobuf
+    @DisplayName("JUnit Integration test for get all employees REST API in Protobuf")
+    @Test
+    public void givenProtobufAccept_whenGetAllEmployees_thenReturnProtobufBody() throws Exception {
+        // given - precondition or setup
+        employeeRepository.saveAll(employees(2));
+
+        // when - action or the behaviour that we are going to test
+        MvcResult result = mockMvc.perform(get("/api/employees").accept(APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_PROTOBUF))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn();
+
+        // then - verify the result or output using assert statements
+        EmployeeListMessage employees = EmployeeListMessage.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(employees.getEmployeesList()).extracting(EmployeeMessage::getEmail)
+                .containsExactly("employee0@gmail.com", "employee1@gmail.com");
+        assertThat(employees.getEmployeesList()).allMatch(EmployeeMessage::hasVersion);
+    }
+
+    // JUnit Integration test for create employee REST API in Protobuf
+    @DisplayName("JUnit Integration test for create employee REST API in Protobuf")
+    @Test
+    public void givenProtobufEmployee_whenCreateEmployee_thenReturnProtobufBody() throws Exception {
+        // given - precondition or setup
+        Employee employee = employees(1).get(0);
+
+        // when - action or the behaviour that we are going to test
+        MvcResult result = mockMvc.perform(post("/api/employees")
+                        .contentType(APPLICATION_PROTOBUF)
+                        .accept(APPLICATION_PROTOBUF)
+                        .content(EmployeeProtobufHttpMessageConverter.toMessage(employee).toByteArray()))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(APPLICATION_PROTOBUF))
+                .andReturn();
+
+        // then - verify the result or output using assert statements
+        EmployeeMessage savedEmployee = EmployeeMessage.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(savedEmployee.getId()).isPositive();
+        assertThat(savedEmployee.getEmail()).isEqualTo(employee.getEmail());
+        assertThat(employeeRepository.findById(savedEmployee.getId())).isPresent();
+    }
+
+    // JUnit Integration test for get all employees REST API compression
+    @DisplayName("JUnit Integration test for get all employees REST API compression")
+    @Test
+    public void givenLargeList_whenGetAllEmployeesAcceptingGzip_thenReturnCompressedBody() {
+        // given - precondition or setup
+        employeeRepository.saveAll(employees(100));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        // when - action or the behaviour that we are going to test
+        ResponseEntity<byte[]> response = restTemplate.exchange("/api/employees", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        // then - verify the result or output using assert statements
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    private static List<Employee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("employee" + i + "@gmail.com")
+                        .build())
+                .toList();
+    }
+}
@@ -3,10 +3,12 @@ package net.javaguides.springboottesting.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import net.javaguides.springboottesting.model.Employee;
 import net.javaguides.springboottesting.repository.EmployeeRepository;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -16,9 +18,12 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -26,8 +31,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Donald F. Coffin
  */
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// the limiter is opt-in; on here so its metrics are covered
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.concurrency-limit.enabled=true")
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 public class EmployeeControllerITest {
 
     @Autowired
@@ -39,12 +47,66 @@ public class EmployeeControllerITest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
     @BeforeEach
     void setup(){
         employeeRepository.deleteAll();
     }
 
 
+    // JUnit Integration test for search employees REST API
+    @DisplayName("JUnit Integration test for search employees REST API")
+    @Test
+    public void givenExistingAndCreatedEmployees_whenSearchEmployees_thenReturnMatchesFromIndex() throws Exception {
+        // given - precondition or setup
+        employeeRepository.save(Employee.builder().firstName("Ramesh").lastName("Fadatare")
+                .email("ramesh@gmail.com").build());
+        searchIndex.rebuild();
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Employee.builder().firstName("Ramya")
+                                .lastName("Krishnan").email("ramya@gmail.com").build())))
+                .andExpect(status().isCreated());
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/search").param("q", "RAM"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].firstName", is("Ramesh")))
+                .andExpect(jsonPath("$[1].email", is("ramya@gmail.com")));
+    }
+
+    // JUnit Integration test for search employees REST API after deleting an unknown id
+    @DisplayName("JUnit Integration test for search employees REST API after deleting an unknown id")
+    @Test
+    public void givenDeletedUnknownId_whenEmployeeCreatedWithThatId_thenSearchFindsIt() throws Exception {
+        // given - precondition or setup
+        Employee savedEmployee = employeeRepository.save(Employee.builder().firstName("Ramesh")
+                .lastName("Fadatare").email("ramesh@gmail.com").build());
+        long nextId = savedEmployee.getId() + 1;
+        mockMvc.perform(delete("/api/employees").param("ids", String.valueOf(nextId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Employee.builder().firstName("Tony")
+                                .lastName("Stark").email("tony@gmail.com").build())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is((int) nextId)));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/search").param("q", "Tony"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].email", is("tony@gmail.com")));
+    }
+
     // JUnit Integration test for create Employee REST API
     @DisplayName("JUnit Integration test for create Employee REST API")
     @Test
@@ -174,7 +236,9 @@ public class EmployeeControllerITest {
                 .andDo(print())
                 .andExpect(jsonPath("$.firstName", is(updatedEmployee.getFirstName())))
                 .andExpect(jsonPath("$.lastName", is(updatedEmployee.getLastName())))
-                .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())));
+                .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())))
+                .andExpect(jsonPath("$.version", is(1)))
+                .andExpect(header().string("ETag", "\"1\""));
     }
 
     // Negative scenario - invalid employee id
@@ -227,4 +291,110 @@ public class EmployeeControllerITest {
         response.andExpect(status().isOk())
                 .andDo(print());
     }
+
+    // JUnit Integration test for the Prometheus scrape endpoint
+    @DisplayName("JUnit Integration test for the Prometheus scrape endpoint")
+    @Test
+    public void givenEmployeeRequest_whenScrapePrometheus_thenReturnEndpointServicePoolAndHibernateMetrics()
+            throws Exception {
+        // given - precondition or setup
+        Employee savedEmployee = employeeRepository.save(Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build());
+        mockMvc.perform(get("/api/employees/{id}", savedEmployee.getId()));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/actuator/prometheus"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "http_server_requests_seconds_bucket{error=\"none\",exception=\"none\",method=\"GET\"")))
+                .andExpect(content().string(containsString("uri=\"/api/employees/{id}\"")))
+                .andExpect(content().string(containsString(
+                        "employee_service_seconds_bucket{class=\"net.javaguides.springboottesting.service.impl.EmployeeServiceImpl\"")))
+                .andExpect(content().string(containsString("method=\"getEmployeeById\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_pending")))
+                .andExpect(content().string(containsString("hibernate_statements_total")))
+                .andExpect(content().string(containsString("employee_api_concurrency_limit{class=\"read\"")))
+                .andExpect(content().string(containsString("employee_api_concurrency_rejected_total")));
+    }
+
+    // JUnit Integration test for the slow-query actuator endpoint
+    @DisplayName("JUnit Integration test for the slow-query actuator endpoint")
+    @Test
+    public void givenSlowQueryLog_whenGetSlowQueries_thenReturnSlowestStatements() throws Exception {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/actuator/slowqueries"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    // JUnit Integration test for concurrent conditional updates
+    @DisplayName("JUnit Integration test for concurrent conditional updates")
+    @Test
+    public void givenTwoClientsWithSameETag_whenBothUpdateEmployee_thenSecondUpdateReturns412() throws Exception {
+        // given - precondition or setup
+        Employee savedEmployee = employeeRepository.save(Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build());
+        String eTag = mockMvc.perform(get("/api/employees/{id}", savedEmployee.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        Employee firstUpdate = Employee.builder().firstName("Ram").lastName("Fadatare").email("ram@gmail.com")
+                .build();
+        Employee secondUpdate = Employee.builder().firstName("Ramesh").lastName("Jadhav").email("ramesh@gmail.com")
+                .build();
+
+        // when - action or the behaviour that we are going to test
+        ResultActions first = mockMvc.perform(put("/api/employees/{id}", savedEmployee.getId())
+                .header("If-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(firstUpdate)));
+        ResultActions second = mockMvc.perform(put("/api/employees/{id}", savedEmployee.getId())
+                .header("If-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(secondUpdate)));
+
+        // then - verify the result or output using assert statements
+        first.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+        second.andDo(print())
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/employees/{id}", savedEmployee.getId()))
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.email", is(firstUpdate.getEmail())));
+    }
+
+    // JUnit Integration test for the Hibernate second-level cache endpoint
+    @DisplayName("JUnit Integration test for the Hibernate second-level cache endpoint")
+    @Test
+    public void givenEmployeeLoaded_whenGetHibernateCacheEndpoint_thenReturnRegionStatistics() throws Exception {
+        // given - precondition or setup
+        Employee savedEmployee = employeeRepository.save(Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build());
+        employeeRepository.findById(savedEmployee.getId());
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/actuator/hibernatecache"));
+
+        // then - verify the result or output using assert statements
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$." + Employee.CACHE_REGION + ".hitRatio").isNumber());
+        mockMvc.perform(delete("/actuator/hibernatecache/" + Employee.CACHE_REGION))
+                .andExpect(status().isNoContent());
+    }
 }
@@ -0,0 +1,87 @@
+package net.javaguides.springboottesting.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@SpringBootTest(properties = "app.ingest.enabled=true")
+@AutoConfigureMockMvc
+public class EmployeeIngestITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        employeeRepository.deleteAll();
+    }
+
+    // JUnit Integration test for ingest employees REST API
+    @DisplayName("JUnit Integration test for ingest employees REST API")
+    @Test
+    public void givenEmployeesWithExistingEmail_whenIngestEmployees_thenCreateOthersAndReportDuplicate()
+            throws Exception {
+        // given - precondition or setup
+        employeeRepository.save(Employee.builder().firstName("Tony").lastName("Stark").email("tony@gmail.com")
+                .build());
+        List<Employee> employees = List.of(
+                Employee.builder().firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build(),
+                Employee.builder().firstName("Tony").lastName("Stark").email("tony@gmail.com").build());
+
+        // when - action or the behaviour that we are going to test
+        String location = mockMvc.perform(post("/api/employees/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employees)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+        ResultActions response = awaitDone(location);
+
+        // then - verify the result or output using assert statements
+        response.andDo(print())
+                .andExpect(jsonPath("$.items[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.items[1].status", is("DUPLICATE_EMAIL")));
+        assertThat(employeeRepository.findByEmail("ramesh@gmail.com")).isPresent();
+    }
+
+    private ResultActions awaitDone(String location) throws Exception {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (true) {
+            ResultActions response = mockMvc.perform(get(location)).andExpect(status().isOk());
+            boolean done = objectMapper.readTree(response.andReturn().getResponse().getContentAsString())
+                    .get("done").asBoolean();
+            if (done || System.nanoTime() > deadline) {
+                return response.andExpect(jsonPath("$.done", is(true)));
+            }
+            Thread.sleep(20);
+        }
+    }
+}
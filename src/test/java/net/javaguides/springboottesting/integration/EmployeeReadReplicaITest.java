@@ -0,0 +1,239 @@
+package net.javaguides.springboottesting.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import net.javaguides.springboottesting.config.CacheConfig;
+import net.javaguides.springboottesting.datasource.ReadYourWritesFilter;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import net.javaguides.springboottesting.service.EmployeeService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; nothing replicates between them, so
+ * every row shows which database a read went to.
+ *
+ * @author Donald F. Coffin
+ */
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "app.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password=",
+        "app.datasource.replica.read-your-writes-window=1m"
+})
+@AutoConfigureMockMvc
+public class EmployeeReadReplicaITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setup() {
+        // Flyway only migrates the primary; give the replica the same schema
+        Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(replicaDataSource)
+                .load()
+                .migrate();
+
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.update("DELETE FROM employees");
+        replica.update("DELETE FROM employees");
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    // JUnit Integration test for read-only service methods reading from the replica
+    @DisplayName("JUnit Integration test for read-only service methods reading from the replica")
+    @Test
+    public void givenEmployeeOnReplicaOnly_whenGetAllEmployees_thenReadFromReplica() {
+        // given - precondition or setup
+        replica.update("INSERT INTO employees (id, first_name, last_name, email) VALUES (1, 'Tony', 'Stark', "
+                + "'tony@gmail.com')");
+
+        // when - action or the behaviour that we are going to test
+        List<Employee> employees = employeeService.getAllEmployees();
+
+        // then - verify the output
+        assertThat(employees).extracting(Employee::getEmail).containsExactly("tony@gmail.com");
+    }
+
+    // JUnit Integration test for writes going to the primary
+    @DisplayName("JUnit Integration test for writes going to the primary")
+    @Test
+    public void givenEmployeeObject_whenSaveEmployee_thenWriteToPrimaryOnly() {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+
+        // when - action or the behaviour that we are going to test
+        employeeService.saveEmployee(employee);
+
+        // then - verify the output
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM employees", Integer.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM employees", Integer.class)).isZero();
+    }
+
+    // JUnit Integration test for read-your-writes after a create
+    @DisplayName("JUnit Integration test for read-your-writes after a create")
+    @Test
+    public void givenCreatedEmployee_whenGetAllEmployeesWithCookie_thenReadFromPrimary() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+        MvcResult created = mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                .andReturn();
+        Cookie readYourWrites = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // when - action or the behaviour that we are going to test
+        ResultActions ownRead = mockMvc.perform(get("/api/employees").cookie(readYourWrites));
+        ResultActions otherRead = mockMvc.perform(get("/api/employees"));
+
+        // then - verify the output
+        ownRead.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].email", is(employee.getEmail())));
+        otherRead.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(0)));
+    }
+
+    // JUnit Integration test for an expired read-your-writes cookie
+    @DisplayName("JUnit Integration test for an expired read-your-writes cookie")
+    @Test
+    public void givenExpiredCookie_whenGetAllEmployees_thenReadFromReplica() throws Exception {
+        // given - precondition or setup
+        primary.update("INSERT INTO employees (id, first_name, last_name, email) VALUES (1, 'Ramesh', 'Fadatare', "
+                + "'ramesh@gmail.com')");
+        Cookie expired = new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() - 1000));
+
+        // when - action or the behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees").cookie(expired));
+
+        // then - verify the output
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(0)));
+    }
+
+    // JUnit Integration test for replica reads not filling the shared caches
+    @DisplayName("JUnit Integration test for replica reads not filling the shared caches")
+    @Test
+    public void givenStaleReplica_whenUpdateOnPrimaryAndReadAgain_thenReplicaRowNotCached() throws Exception {
+        // given - precondition or setup
+        String insert = "INSERT INTO employees (id, first_name, last_name, email, version) VALUES (1, 'Tony', "
+                + "'Stark', 'tony@gmail.com', 0)";
+        primary.update(insert);
+        replica.update(insert);
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("ironman@gmail.com")
+                .build();
+        mockMvc.perform(put("/api/employees/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedEmployee)))
+                .andExpect(status().isOk());
+
+        // when - action or the behaviour that we are going to test
+        // without the read-your-writes cookie, the list and a read-only query-cached lookup go to the stale replica
+        ResultActions replicaRead = mockMvc.perform(get("/api/employees"));
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Optional<Employee> replicaLookup = readOnly.execute(status -> employeeRepository.findByEmail("tony@gmail.com"));
+        boolean cachedByReplicaReads = entityManagerFactory.getCache().contains(Employee.class, 1L);
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L));
+
+        // then - verify the output
+        replicaRead.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email", is("tony@gmail.com")));
+        assertThat(replicaLookup).isPresent();
+        assertThat(cachedByReplicaReads).isFalse();
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())));
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).get(1L, Employee.class))
+                .extracting(Employee::getEmail)
+                .isEqualTo(updatedEmployee.getEmail());
+    }
+}
@@ -0,0 +1,96 @@
+package net.javaguides.springboottesting.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 4, 2, 6, THRESHOLD, 0.5);
+
+    // JUnit test for tryAcquire method
+    @DisplayName("JUnit test for tryAcquire method")
+    @Test
+    public void givenLimitReached_whenTryAcquire_thenRejectAndCount() {
+        // given - precondition or setup
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // when - action or the behaviour that we are going to test
+        boolean admitted = limiter.tryAcquire();
+
+        // then - verify the output
+        assertThat(admitted).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    // JUnit test for release method with slow requests
+    @DisplayName("JUnit test for release method with slow requests")
+    @Test
+    public void givenSlowOrFailedRequests_whenRelease_thenDecreaseLimitDownToMinimum() {
+        // given - precondition or setup
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // when - action or the behaviour that we are going to test
+        limiter.release(SLOW, false);
+        int afterSlow = limiter.getLimit();
+        limiter.release(FAST, true);
+        limiter.release(SLOW, false);
+
+        // then - verify the output
+        assertThat(afterSlow).isEqualTo(2);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    // JUnit test for release method with fast requests
+    @DisplayName("JUnit test for release method with fast requests")
+    @Test
+    public void givenFastRequestsUsingTheLimit_whenRelease_thenIncreaseLimitUpToMaximum() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going to test
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < limiter.getLimit(); j++) {
+                limiter.tryAcquire();
+            }
+            while (limiter.getInFlight() > 0) {
+                limiter.release(FAST, false);
+            }
+        }
+
+        // then - verify the output
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    // JUnit test for release method while mostly idle
+    @DisplayName("JUnit test for release method while mostly idle")
+    @Test
+    public void givenSingleFastRequest_whenRelease_thenKeepLimit() {
+        // given - precondition or setup
+        limiter.tryAcquire();
+
+        // when - action or the behaviour that we are going to test
+        limiter.release(FAST, false);
+
+        // then - verify the output
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+}
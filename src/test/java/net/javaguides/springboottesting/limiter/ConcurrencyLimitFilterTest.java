@@ -0,0 +1,96 @@
+package net.javaguides.springboottesting.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+class ConcurrencyLimitFilterTest {
+
+    private final AdaptiveConcurrencyLimiter readLimiter = new AdaptiveConcurrencyLimiter("read", 1, 1, 1,
+            TimeUnit.SECONDS.toNanos(1), 0.9);
+
+    private final AdaptiveConcurrencyLimiter writeLimiter = new AdaptiveConcurrencyLimiter("write", 1, 1, 1,
+            TimeUnit.SECONDS.toNanos(1), 0.9);
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(readLimiter, writeLimiter,
+            Duration.ofSeconds(2));
+
+    // JUnit test for admitted request
+    @DisplayName("JUnit test for admitted request")
+    @Test
+    public void givenFreeCapacity_whenFilter_thenPassOnAndReleaseSlot() throws Exception {
+        // given - precondition or setup
+        MockFilterChain chain = new MockFilterChain();
+
+        // when - action or the behaviour that we are going to test
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/employees/1"), new MockHttpServletResponse(), chain);
+
+        // then - verify the output
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(readLimiter.getInFlight()).isZero();
+    }
+
+    // JUnit test for rejected request
+    @DisplayName("JUnit test for rejected request")
+    @Test
+    public void givenReadLimitReached_whenFilterRead_thenReturn503WithRetryAfter() throws Exception {
+        // given - precondition or setup
+        readLimiter.tryAcquire();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when - action or the behaviour that we are going to test
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/employees"), response, chain);
+
+        // then - verify the output
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(readLimiter.getRejected()).isEqualTo(1);
+    }
+
+    // JUnit test for separate read and write limits
+    @DisplayName("JUnit test for separate read and write limits")
+    @Test
+    public void givenReadLimitReached_whenFilterWrite_thenPassOn() throws Exception {
+        // given - precondition or setup
+        readLimiter.tryAcquire();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when - action or the behaviour that we are going to test
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/employees"), new MockHttpServletResponse(), chain);
+
+        // then - verify the output
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(writeLimiter.getInFlight()).isZero();
+    }
+
+    // JUnit test for unlimited paths
+    @DisplayName("JUnit test for unlimited paths")
+    @Test
+    public void givenReadLimitReached_whenFilterSearch_thenPassOn() throws Exception {
+        // given - precondition or setup
+        readLimiter.tryAcquire();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when - action or the behaviour that we are going to test
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/employees/search"), new MockHttpServletResponse(),
+                chain);
+
+        // then - verify the output
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(readLimiter.getRejected()).isZero();
+    }
+}
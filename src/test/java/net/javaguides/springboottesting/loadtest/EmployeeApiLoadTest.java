@@ -0,0 +1,157 @@
+package net.javaguides.springboottesting.loadtest;
+
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.service.EmployeeService;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Mixed create/read/update/delete traffic at a fixed rate against the running application, failing
+ * when an endpoint's p99 latency exceeds its SLO. Rate, clients, duration and SLOs are set in
+ * application-loadtest.properties; run with {@code mvn -Pload-test test}. The default build excludes the
+ * {@code load} tag, so this SLO gate only runs when that profile is requested explicitly.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EmployeeApiLoadTest {
+
+    // ids 1..SEEDED are read and updated, the ones after them are deleted one by one
+    private static final int SEEDED = 1000;
+    private static final int SEED_BATCH = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${loadtest.rate}")
+    private int rate;
+
+    @Value("${loadtest.clients}")
+    private int clients;
+
+    @Value("${loadtest.warm-up-seconds}")
+    private long warmUpSeconds;
+
+    @Value("${loadtest.duration-seconds}")
+    private long durationSeconds;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong nextDeletedId = new AtomicLong(SEEDED);
+
+    @BeforeEach
+    public void setup() {
+        // deletes are 10% of the traffic; seed enough for the whole run
+        long deletable = rate * (warmUpSeconds + durationSeconds) / 10 + SEED_BATCH;
+        for (int batch = 0; batch * SEED_BATCH < SEEDED + deletable; batch++) {
+            int first = batch * SEED_BATCH;
+            employeeService.saveEmployees(IntStream.range(first, first + SEED_BATCH)
+                    .mapToObj(i -> employee("seed" + i))
+                    .toList());
+        }
+    }
+
+    @DisplayName("Load test for create, read, update and delete Employee REST APIs against p99 SLOs")
+    @Test
+    public void givenMixedCrudTraffic_whenDrivenAtConfiguredRate_thenP99IsWithinSlo() throws Exception {
+        // given - precondition or setup
+        Map<String, Long> p99Slos = Binder.get(environment)
+                .bind("loadtest.slo-p99-millis", Bindable.mapOf(String.class, Long.class))
+                .orElse(Map.of());
+        LoadDriver loadDriver = new LoadDriver();
+        loadDriver.runAtFixedRate(rate, clients, Duration.ofSeconds(warmUpSeconds), this::nextRequest);
+        loadDriver.reset();
+
+        // when - action or the behaviour that we are going to test
+        loadDriver.runAtFixedRate(rate, clients, Duration.ofSeconds(durationSeconds), this::nextRequest);
+        List<EndpointStats> report = loadDriver.report();
+        report.forEach(System.out::println);
+
+        // then - verify the output
+        SoftAssertions softly = new SoftAssertions();
+        report.forEach(stats -> {
+            softly.assertThat(stats.errorRate()).as("%s error rate", stats.endpoint()).isLessThan(0.01);
+            Long p99Slo = p99Slos.get(stats.endpoint());
+            // every endpoint the driver calls needs an SLO, rather than passing unchecked
+            softly.assertThat(p99Slo).as("%s p99 SLO: set loadtest.slo-p99-millis.%s", stats.endpoint(),
+                    stats.endpoint()).isNotNull();
+            if (p99Slo != null) {
+                softly.assertThat(stats.p99Millis()).as("%s p99 (ms)", stats.endpoint())
+                        .isLessThanOrEqualTo(p99Slo);
+            }
+        });
+        softly.assertAll();
+    }
+
+    // 70% reads, 10% each of creates, updates and deletes
+    private LoadRequest nextRequest() {
+        int dice = ThreadLocalRandom.current().nextInt(10);
+        if (dice == 0) {
+            return new LoadRequest("create", request("/api/employees")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json(employee("created" + sequence.incrementAndGet()))))
+                    .build());
+        }
+        if (dice == 1) {
+            return new LoadRequest("update", request("/api/employees/" + randomSeededId())
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(json(employee("updated" + sequence.incrementAndGet()))))
+                    .build());
+        }
+        if (dice == 2) {
+            return new LoadRequest("delete", request("/api/employees/" + nextDeletedId.incrementAndGet())
+                    .DELETE()
+                    .build());
+        }
+        return new LoadRequest("read", request("/api/employees/" + randomSeededId()).GET().build());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+    }
+
+    private static long randomSeededId() {
+        return ThreadLocalRandom.current().nextLong(1, SEEDED + 1);
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder()
+                .firstName(name)
+                .lastName("Load")
+                .email(name + "@gmail.com")
+                .build();
+    }
+
+    private static String json(Employee employee) {
+        return String.format("{\"firstName\":\"%s\",\"lastName\":\"%s\",\"email\":\"%s\"}",
+                employee.getFirstName(), employee.getLastName(), employee.getEmail());
+    }
+}
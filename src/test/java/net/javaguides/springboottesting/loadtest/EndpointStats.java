@@ -0,0 +1,32 @@
+package net.javaguides.springboottesting.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency percentiles (milliseconds) and throughput recorded for one endpoint.
+ *
+ * @author Donald F. Coffin
+ */
+public record EndpointStats(String endpoint, long requests, long errors, double p50Millis, double p99Millis,
+                            double maxMillis, double requestsPerSecond) {
+
+    static EndpointStats of(String endpoint, Histogram histogram, long errors, double elapsedSeconds) {
+        return new EndpointStats(endpoint,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                histogram.getTotalCount() / elapsedSeconds);
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-28s requests=%8d errors=%6d p50=%8.2fms p99=%9.2fms max=%9.2fms throughput=%9.1f req/s",
+                endpoint, requests, errors, p50Millis, p99Millis, maxMillis, requestsPerSecond);
+    }
+}
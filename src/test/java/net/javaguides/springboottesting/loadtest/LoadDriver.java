@@ -0,0 +1,132 @@
+package net.javaguides.springboottesting.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Drives HTTP load, either from a fixed number of clients or at a fixed request rate, and records
+ * per-endpoint latency in HDR histograms.
+ *
+ * @author Donald F. Coffin
+ */
+public class LoadDriver {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    private long startedAt = System.nanoTime();
+
+    /**
+     * Closed loop: each client sends its next request as soon as the previous response arrives.
+     */
+    public void runClosedLoop(int clients, Duration duration, Supplier<LoadRequest> requests)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        for (int i = 0; i < clients; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    send(requests.get(), System.nanoTime());
+                }
+            });
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts requests at a fixed rate whether or not earlier ones have completed, with at most
+     * {@code clients} in flight. Latency is measured from each request's scheduled start, so a stalled
+     * server shows up as queueing time instead of as fewer requests (coordinated omission).
+     */
+    public void runAtFixedRate(int requestsPerSecond, int clients, Duration duration, Supplier<LoadRequest> requests)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        long totalRequests = duration.toMillis() * requestsPerSecond / 1000;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < totalRequests; i++) {
+            long intendedStartNanos = start + i * intervalNanos;
+            long delayNanos = intendedStartNanos - System.nanoTime();
+            if (delayNanos > 0) {
+                LockSupport.parkNanos(delayNanos);
+            }
+            LoadRequest request = requests.get();
+            executor.execute(() -> send(request, intendedStartNanos));
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Sends one request and records its latency from {@code intendedStartNanos}.
+     */
+    public void send(LoadRequest request, long intendedStartNanos) {
+        boolean failed;
+        try {
+            HttpResponse<Void> response = httpClient.send(request.request(), HttpResponse.BodyHandlers.discarding());
+            failed = !request.expectedStatus().test(response.statusCode());
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        latencies.computeIfAbsent(request.endpoint(), endpoint -> new ConcurrentHistogram(3))
+                .recordValue(latencyMicros);
+        if (failed) {
+            errors.computeIfAbsent(request.endpoint(), endpoint -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Drops everything recorded so far, e.g. after a warm-up phase.
+     */
+    public void reset() {
+        latencies.clear();
+        errors.clear();
+        startedAt = System.nanoTime();
+    }
+
+    public List<EndpointStats> report() {
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        latencies.forEach((endpoint, histogram) -> stats.put(endpoint, EndpointStats.of(endpoint, histogram,
+                errors.getOrDefault(endpoint, new LongAdder()).sum(), elapsedSeconds)));
+        return List.copyOf(stats.values());
+    }
+
+    public EndpointStats report(String endpoint) {
+        return report().stream()
+                .filter(stats -> stats.endpoint().equals(endpoint))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No requests recorded for " + endpoint));
+    }
+}
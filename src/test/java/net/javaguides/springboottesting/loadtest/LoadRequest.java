@@ -0,0 +1,16 @@
+package net.javaguides.springboottesting.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.IntPredicate;
+
+/**
+ * One request of a load test, labelled with the endpoint its latency is recorded under.
+ *
+ * @author Donald F. Coffin
+ */
+public record LoadRequest(String endpoint, HttpRequest request, IntPredicate expectedStatus) {
+
+    public LoadRequest(String endpoint, HttpRequest request) {
+        this(endpoint, request, status -> status >= 200 && status < 300);
+    }
+}
@@ -0,0 +1,85 @@
+package net.javaguides.springboottesting.loadtest;
+
+import net.javaguides.springboottesting.SpringBootTestingApplication;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares p99 latency and throughput of the platform-thread and virtual-thread request modes at 1k
+ * concurrent clients. Run with {@code JAVA_HOME=<jdk21> mvn -Pvirtual-threads,load-test test}; point
+ * {@code -Dloadtest.datasource.url} at MySQL for realistic JDBC wait times.
+ *
+ * @author Donald F. Coffin
+ */
+
+@Tag("load")
+class ThreadModelLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("loadtest.warm-up-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+    private static final String ENDPOINT = "GET /api/employees?limit";
+
+    @DisplayName("Load test comparing platform and virtual thread request execution")
+    @Test
+    public void givenThousandClients_whenServedOnPlatformOrVirtualThreads_thenReportLatencyAndThroughput()
+            throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need the Java 21 build (-Pvirtual-threads)");
+
+        EndpointStats platformThreads = runLoad("platform");
+        EndpointStats virtualThreads = runLoad("virtual", "virtual-threads");
+
+        System.out.println("platform threads: " + platformThreads);
+        System.out.println("virtual threads:  " + virtualThreads);
+
+        assertThat(platformThreads.errorRate()).isLessThan(0.01);
+        assertThat(virtualThreads.errorRate()).isLessThan(0.01);
+    }
+
+    private EndpointStats runLoad(String database, String... profiles) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .profiles(profiles)
+                // command-line arguments, so they take precedence over application.properties
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + System.getProperty("loadtest.datasource.url",
+                                "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1"),
+                        "--spring.datasource.username=" + System.getProperty("loadtest.datasource.username", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("loadtest.datasource.password", ""),
+                        // the same pool in both modes, so the thread model is the only difference
+                        "--spring.datasource.hikari.maximum-pool-size=50",
+                        // measure the thread model, not the limiter: its 503s would count as errors
+                        "--app.concurrency-limit.enabled=false")) {
+
+            context.getBean(EmployeeService.class).saveEmployees(IntStream.range(0, 1000)
+                    .mapToObj(i -> Employee.builder()
+                            .firstName("First" + i)
+                            .lastName("Last" + i)
+                            .email(database + i + "@gmail.com")
+                            .build())
+                    .toList());
+
+            URI pageUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/employees?limit=20");
+            LoadRequest pageRequest = new LoadRequest(ENDPOINT, HttpRequest.newBuilder(pageUri).GET().build());
+
+            LoadDriver loadDriver = new LoadDriver();
+            loadDriver.runClosedLoop(CLIENTS, WARM_UP, () -> pageRequest);
+            loadDriver.reset();
+            loadDriver.runClosedLoop(CLIENTS, DURATION, () -> pageRequest);
+            return loadDriver.report(ENDPOINT);
+        }
+    }
+}
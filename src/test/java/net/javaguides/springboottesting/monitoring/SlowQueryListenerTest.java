@@ -0,0 +1,108 @@
+package net.javaguides.springboottesting.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+class SlowQueryListenerTest {
+
+    private SlowQueryLog slowQueryLog;
+
+    @BeforeEach
+    public void setup() {
+        slowQueryLog = new SlowQueryLog(2);
+    }
+
+    // JUnit test for a statement over the threshold issued by a repository method
+    @DisplayName("JUnit test for a statement over the threshold issued by a repository method")
+    @Test
+    public void givenStatementOverThreshold_whenExecutedInRepositoryMethod_thenRecordParametersAndRepositoryMethod() {
+        // given - precondition or setup
+        JdbcTemplate jdbcTemplate = jdbcTemplate(Duration.ZERO);
+        ProxyFactory proxyFactory = new ProxyFactory((EmployeeLookup) lastName ->
+                jdbcTemplate.queryForObject("SELECT ? AS last_name", String.class, lastName));
+        proxyFactory.addAdvice(RepositoryMethodContext.interceptor(EmployeeLookup.class));
+        EmployeeLookup employeeLookup = (EmployeeLookup) proxyFactory.getProxy();
+
+        // when - action or the behaviour that we are going to test
+        employeeLookup.findByLastName("Fadatare");
+
+        // then - verify the output
+        assertThat(slowQueryLog.slowest()).singleElement().satisfies(slowQuery -> {
+            assertThat(slowQuery.sql()).isEqualTo("SELECT ? AS last_name");
+            assertThat(slowQuery.parameters()).containsExactly(List.of("Fadatare"));
+            assertThat(slowQuery.repositoryMethod()).isEqualTo("EmployeeLookup.findByLastName");
+        });
+        assertThat(RepositoryMethodContext.current()).isNull();
+    }
+
+    // JUnit test for a statement under the threshold
+    @DisplayName("JUnit test for a statement under the threshold")
+    @Test
+    public void givenStatementUnderThreshold_whenExecuted_thenNothingIsRecorded() {
+        // given - precondition or setup
+        JdbcTemplate jdbcTemplate = jdbcTemplate(Duration.ofMinutes(1));
+
+        // when - action or the behaviour that we are going to test
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+
+        // then - verify the output
+        assertThat(slowQueryLog.slowest()).isEmpty();
+    }
+
+    // JUnit test for keeping only the slowest statements
+    @DisplayName("JUnit test for keeping only the slowest statements")
+    @Test
+    public void givenMoreSlowStatementsThanTopN_whenRecorded_thenKeepSlowestFirst() {
+        // given - precondition or setup
+        List.of(120L, 300L, 80L, 200L).forEach(elapsedMillis ->
+                slowQueryLog.record(new SlowQuery(null, elapsedMillis, "SELECT " + elapsedMillis, List.of(), null)));
+
+        // when - action or the behaviour that we are going to test
+        List<SlowQuery> slowQueries = slowQueryLog.slowest();
+
+        // then - verify the output
+        assertThat(slowQueries).extracting(SlowQuery::elapsedMillis).containsExactly(300L, 200L);
+    }
+
+    // JUnit test for a statement over the threshold with top-n 0
+    @DisplayName("JUnit test for a statement over the threshold with top-n 0")
+    @Test
+    public void givenTopNZero_whenStatementOverThresholdExecuted_thenStatementSucceedsAndNothingIsKept() {
+        // given - precondition or setup
+        slowQueryLog = new SlowQueryLog(0);
+        JdbcTemplate jdbcTemplate = jdbcTemplate(Duration.ZERO);
+
+        // when - action or the behaviour that we are going to test
+        Integer result = jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+
+        // then - verify the output
+        assertThat(result).isEqualTo(1);
+        assertThat(slowQueryLog.slowest()).isEmpty();
+    }
+
+    private JdbcTemplate jdbcTemplate(Duration threshold) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:slowqueries");
+        return new JdbcTemplate(ProxyDataSourceBuilder.create(h2)
+                .listener(new SlowQueryListener(threshold, slowQueryLog))
+                .build());
+    }
+
+    interface EmployeeLookup {
+        String findByLastName(String lastName);
+    }
+}
@@ -0,0 +1,153 @@
+package net.javaguides.springboottesting.reactive.repository;
+
+import net.javaguides.springboottesting.exception.DataIntegrityViolations;
+import net.javaguides.springboottesting.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@ActiveProfiles("reactive")
+@DataR2dbcTest(properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive-ems?options=DB_CLOSE_DELAY=-1")
+@Import(ReactiveEmployeeRepository.class)
+class ReactiveEmployeeRepositoryTest {
+
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        // R2DBC tests are not rolled back
+        employeeRepository.deleteAll().block();
+
+        employee = Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+    }
+
+    // JUnit test for save employee operation
+    @DisplayName("JUnit test for reactive save employee operation")
+    @Test
+    public void givenEmployeeObject_whenSave_thenReturnSavedEmployee() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeRepository.save(employee))
+                // then - verify the output
+                .assertNext(savedEmployee -> assertThat(savedEmployee.getId()).isGreaterThan(0))
+                .verifyComplete();
+    }
+
+    // JUnit test for save employee operation with duplicate email
+    @DisplayName("JUnit test for reactive save employee operation with duplicate email")
+    @Test
+    public void givenExistingEmail_whenSave_thenThrowsDataIntegrityViolationException() {
+        // given - precondition or setup
+        employeeRepository.save(employee).block();
+        Employee duplicate = Employee.builder()
+                .firstName("Ram")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeRepository.save(duplicate))
+                // then - verify the output
+                .verifyErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                                e -> assertThat(DataIntegrityViolations.isDuplicateEmail(e)).isTrue()));
+    }
+
+    // JUnit test for update employee operation with duplicate email
+    @DisplayName("JUnit test for reactive update employee operation with duplicate email")
+    @Test
+    public void givenExistingEmail_whenUpdateEmployee_thenThrowsDuplicateEmailViolation() {
+        // given - precondition or setup
+        employeeRepository.save(employee).block();
+        Employee other = employeeRepository.save(Employee.builder()
+                .firstName("Ram")
+                .lastName("Fadatare")
+                .email("ram@gmail.com")
+                .build()).block();
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeRepository.updateEmployee(other.getId(), "Ram", "Fadatare", "ramesh@gmail.com"))
+                // then - verify the output
+                .verifyErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                                e -> assertThat(DataIntegrityViolations.isDuplicateEmail(e)).isTrue()));
+    }
+
+    // JUnit test for get all employees operation with backpressure
+    @DisplayName("JUnit test for reactive get all employees operation with backpressure")
+    @Test
+    public void givenEmployeesList_whenFindAllWithLimitedDemand_thenEmitsOnlyRequestedEmployees() {
+        // given - precondition or setup
+        Flux.range(0, 10)
+                .concatMap(i -> employeeRepository.save(Employee.builder()
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("employee" + i + "@gmail.com")
+                        .build()))
+                .blockLast();
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeRepository.findAll(), 3)
+                // then - verify the output
+                .expectNextCount(3)
+                .thenRequest(7)
+                .expectNextCount(7)
+                .verifyComplete();
+    }
+
+    // JUnit test for update employee operation
+    @DisplayName("JUnit test for reactive update employee operation")
+    @Test
+    public void givenEmployeeObject_whenUpdateEmployee_thenReturnUpdatedRowCount() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeRepository.save(employee).block();
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeRepository.updateEmployee(savedEmployee.getId(), "Ram", "Fadatare", "ram@gmail.com")
+                        .then(employeeRepository.findById(savedEmployee.getId())))
+                // then - verify the output
+                .assertNext(updatedEmployee -> {
+                    assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
+                    assertThat(updatedEmployee.getEmail()).isEqualTo("ram@gmail.com");
+                })
+                .verifyComplete();
+    }
+
+    // JUnit test for delete employee operation
+    @DisplayName("JUnit test for reactive delete employee operation")
+    @Test
+    public void givenEmployeeObject_whenDeleteById_thenReturnDeletedRowCount() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeRepository.save(employee).block();
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeRepository.deleteEmployeeById(savedEmployee.getId()))
+                // then - verify the output
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.deleteEmployeeById(savedEmployee.getId()))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,196 @@
+package net.javaguides.springboottesting.reactive.router;
+
+import net.javaguides.springboottesting.exception.ResourceAlreadyExistsException;
+import net.javaguides.springboottesting.exception.ResourceNotFoundException;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.reactive.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRouterTest {
+
+    @Mock
+    private ReactiveEmployeeService employeeService;
+
+    private WebTestClient webTestClient;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        webTestClient = WebTestClient
+                .bindToRouterFunction(new EmployeeRouter().employeeRoutes(new EmployeeHandler(employeeService)))
+                .build();
+
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+    }
+
+    // JUnit test for reactive create Employee REST API
+    @DisplayName("JUnit test for reactive create Employee REST API")
+    @Test
+    public void givenEmployeeObject_whenCreateEmployee_thenReturnSavedEmployee() {
+        // given - precondition or setup
+        given(employeeService.saveEmployee(any(Employee.class)))
+                .willAnswer((invocation) -> Mono.just(invocation.getArgument(0)));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo(employee.getFirstName())
+                .jsonPath("$.email").isEqualTo(employee.getEmail());
+    }
+
+    // JUnit test for reactive create Employee REST API (duplicate email)
+    @DisplayName("JUnit test for reactive create Employee REST API (duplicate email)")
+    @Test
+    public void givenExistingEmail_whenCreateEmployee_thenReturn409() {
+        // given - precondition or setup
+        given(employeeService.saveEmployee(any(Employee.class)))
+                .willReturn(Mono.error(new ResourceAlreadyExistsException(
+                        "Employee already exist with given email: " + employee.getEmail())));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Resource already exists");
+    }
+
+    // JUnit test for reactive get all employees REST API
+    @DisplayName("JUnit test for reactive get all employees REST API streamed as NDJSON")
+    @Test
+    public void givenListOfEmployees_whenGetAllEmployeesAsNdjson_thenStreamEmployees() {
+        // given - precondition or setup
+        Employee other = Employee.builder().id(2L).firstName("Tony").lastName("Stark").email("tony@gmail.com").build();
+        given(employeeService.getAllEmployees()).willReturn(Flux.just(employee, other));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Employee.class)
+                .hasSize(2);
+    }
+
+    // JUnit test for reactive get employee by id REST API
+    @DisplayName("JUnit test for reactive get employee by id REST API")
+    @Test
+    public void givenEmployeeId_whenGetEmployeeById_thenReturnEmployeeObject() {
+        // given - precondition or setup
+        given(employeeService.getEmployeeById(1L)).willReturn(Mono.just(employee));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees/{id}", 1L).exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.lastName").isEqualTo(employee.getLastName());
+    }
+
+    // JUnit test for reactive get employee by id REST API (negative scenario)
+    @DisplayName("JUnit test for reactive get employee by id REST API (negative scenario)")
+    @Test
+    public void givenInvalidEmployeeId_whenGetEmployeeById_thenReturnEmpty() {
+        // given - precondition or setup
+        given(employeeService.getEmployeeById(1L)).willReturn(Mono.empty());
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees/{id}", 1L).exchange();
+
+        // then - verify the output
+        response.expectStatus().isNotFound();
+    }
+
+    // JUnit test for reactive update employee REST API
+    @DisplayName("JUnit test for reactive update employee REST API")
+    @Test
+    public void givenUpdatedEmployee_whenUpdateEmployee_thenReturnUpdatedEmployeeObject() {
+        // given - precondition or setup
+        given(employeeService.updateEmployee(any(Employee.class)))
+                .willAnswer((invocation) -> Mono.just(invocation.getArgument(0)));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/employees/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Employee.builder().firstName("Ram").lastName("Jadhav").email("ram@gmail.com").build())
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.firstName").isEqualTo("Ram");
+    }
+
+    // JUnit test for reactive update employee REST API (negative scenario)
+    @DisplayName("JUnit test for reactive update employee REST API (negative scenario)")
+    @Test
+    public void givenUnknownEmployeeId_whenUpdateEmployee_thenReturn404() {
+        // given - precondition or setup
+        given(employeeService.updateEmployee(any(Employee.class)))
+                .willReturn(Mono.error(new ResourceNotFoundException("Employee not found with given id: 1")));
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/employees/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Resource not found");
+    }
+
+    // JUnit test for reactive delete employee REST API
+    @DisplayName("JUnit test for reactive delete employee REST API")
+    @Test
+    public void givenEmployeeId_whenDeleteEmployee_thenReturn200() {
+        // given - precondition or setup
+        given(employeeService.deleteEmployee(1L)).willReturn(Mono.empty());
+
+        // when - action or the behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.delete().uri("/api/employees/{id}", 1L).exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Employee deleted successfully!.");
+    }
+}
@@ -0,0 +1,92 @@
+package net.javaguides.springboottesting.reactive.service;
+
+import net.javaguides.springboottesting.exception.ResourceAlreadyExistsException;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.reactive.repository.ReactiveEmployeeRepository;
+import net.javaguides.springboottesting.reactive.service.impl.ReactiveEmployeeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveEmployeeServiceTests {
+
+    @Mock
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private ReactiveEmployeeServiceImpl employeeService;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+    }
+
+    // JUnit test for reactive saveEmployee method (duplicate email)
+    @DisplayName("JUnit test for reactive saveEmployee method which throws exception for a duplicate email")
+    @Test
+    public void givenDuplicateEmailViolation_whenSaveEmployee_thenThrowsResourceAlreadyExistsException() {
+        // given - precondition or setup
+        given(employeeRepository.save(employee)).willReturn(Mono.error(duplicateEmailViolation()));
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeService.saveEmployee(employee))
+                // then - verify the output
+                .verifyError(ResourceAlreadyExistsException.class);
+    }
+
+    // JUnit test for reactive updateEmployee method (duplicate email)
+    @DisplayName("JUnit test for reactive updateEmployee method which throws exception for a duplicate email")
+    @Test
+    public void givenDuplicateEmailViolation_whenUpdateEmployee_thenThrowsResourceAlreadyExistsException() {
+        // given - precondition or setup
+        given(employeeRepository.updateEmployee(1L, "Ramesh", "Fadatare", "ramesh@gmail.com"))
+                .willReturn(Mono.error(duplicateEmailViolation()));
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeService.updateEmployee(employee))
+                // then - verify the output
+                .verifyError(ResourceAlreadyExistsException.class);
+    }
+
+    // JUnit test for reactive saveEmployee method (other constraint violation)
+    @DisplayName("JUnit test for reactive saveEmployee method which passes other constraint violations on")
+    @Test
+    public void givenNotNullViolation_whenSaveEmployee_thenThrowsDataIntegrityViolationException() {
+        // given - precondition or setup
+        DataIntegrityViolationException notNullViolation = new DataIntegrityViolationException("INSERT failed",
+                new IllegalStateException("NULL not allowed for column \"FIRST_NAME\""));
+        given(employeeRepository.save(any(Employee.class))).willReturn(Mono.error(notNullViolation));
+
+        // when - action or the behaviour that we are going to test
+        StepVerifier.create(employeeService.saveEmployee(employee))
+                // then - verify the output
+                .verifyErrorMatches(error -> error == notNullViolation);
+    }
+
+    private static DataIntegrityViolationException duplicateEmailViolation() {
+        return new DataIntegrityViolationException("INSERT failed", new IllegalStateException(
+                "Duplicate entry 'ramesh@gmail.com' for key 'employees.uk_employees_email'"));
+    }
+}
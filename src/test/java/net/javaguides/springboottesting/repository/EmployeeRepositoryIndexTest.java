@@ -0,0 +1,206 @@
+package net.javaguides.springboottesting.repository;
+
+import net.javaguides.springboottesting.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the SQL behind each repository query through EXPLAIN and checks that H2 plans an index lookup
+ * instead of a table scan.
+ *
+ * @author Donald F. Coffin
+ */
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "net.javaguides.springboottesting.repository.RecordingStatementInspector")
+class EmployeeRepositoryIndexTest {
+
+    private static final String NAME_INDEX = "IDX_EMPLOYEES_LAST_NAME_FIRST_NAME";
+    private static final String EMAIL_INDEX = "UK_EMPLOYEES_EMAIL";
+    private static final String PRIMARY_KEY = "PRIMARY_KEY";
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employee = employeeRepository.save(Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build());
+        RecordingStatementInspector.clear();
+    }
+
+    // JUnit test for find by email query plan
+    @DisplayName("JUnit test for find by email query plan")
+    @Test
+    public void givenEmail_whenFindByEmail_thenUseEmailIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findByEmail(employee.getEmail());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getEmail())).contains(EMAIL_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for find existing emails query plan
+    @DisplayName("JUnit test for find existing emails query plan")
+    @Test
+    public void givenEmails_whenFindExistingEmails_thenUseEmailIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findExistingEmails(List.of(employee.getEmail(), "tony@gmail.com"));
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getEmail(), "tony@gmail.com"))
+                .contains(EMAIL_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for find view by email query plan
+    @DisplayName("JUnit test for find view by email query plan")
+    @Test
+    public void givenEmail_whenFindViewByEmail_thenUseEmailIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findViewByEmail(employee.getEmail());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getEmail())).contains(EMAIL_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for keyset pagination query plan
+    @DisplayName("JUnit test for keyset pagination query plan")
+    @Test
+    public void givenId_whenFindByIdGreaterThan_thenUsePrimaryKey() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 10));
+
+        // then - verify the output
+        assertThat(explainLastStatement(0L, 10)).contains(PRIMARY_KEY).doesNotContain("tableScan");
+    }
+
+    // JUnit test for find detached by id query plan
+    @DisplayName("JUnit test for find detached by id query plan")
+    @Test
+    public void givenId_whenFindDetachedById_thenUsePrimaryKey() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findDetachedById(employee.getId());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getId())).contains(PRIMARY_KEY).doesNotContain("tableScan");
+    }
+
+    // JUnit test for find version by id query plan
+    @DisplayName("JUnit test for find version by id query plan")
+    @Test
+    public void givenId_whenFindVersionById_thenUsePrimaryKey() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findVersionById(employee.getId());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getId())).contains(PRIMARY_KEY).doesNotContain("tableScan");
+    }
+
+    // JUnit test for custom query using JPQL with index query plan
+    @DisplayName("JUnit test for custom query using JPQL with index query plan")
+    @Test
+    public void givenFirstNameAndLastName_whenFindByJPQL_thenUseNameIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findByJPQL(employee.getFirstName(), employee.getLastName());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getFirstName(), employee.getLastName()))
+                .contains(NAME_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for custom query using JPQL with Named parameters query plan
+    @DisplayName("JUnit test for custom query using JPQL with Named parameters query plan")
+    @Test
+    public void givenFirstNameAndLastName_whenFindByJPQLNamedParams_thenUseNameIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findByJPQLNamedParams(employee.getFirstName(), employee.getLastName());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getFirstName(), employee.getLastName()))
+                .contains(NAME_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for custom query using native SQL with index query plan
+    @DisplayName("JUnit test for custom query using native SQL with index query plan")
+    @Test
+    public void givenFirstNameAndLastName_whenFindByNativeSQL_thenUseNameIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findByNativeSQL(employee.getFirstName(), employee.getLastName());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getFirstName(), employee.getLastName()))
+                .contains(NAME_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for custom query using native SQL with Named parameters query plan
+    @DisplayName("JUnit test for custom query using native SQL with Named parameters query plan")
+    @Test
+    public void givenFirstNameAndLastName_whenFindByNativeSQLNamedParams_thenUseNameIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findByNativeSQLNamedParams(employee.getFirstName(), employee.getLastName());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getFirstName(), employee.getLastName()))
+                .contains(NAME_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for derived find by first name and last name query plan
+    @DisplayName("JUnit test for derived find by first name and last name query plan")
+    @Test
+    public void givenFirstNameAndLastName_whenFindByFirstNameAndLastName_thenUseNameIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findByFirstNameAndLastName(employee.getFirstName(), employee.getLastName());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getFirstName(), employee.getLastName()))
+                .contains(NAME_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for find view by first name and last name query plan
+    @DisplayName("JUnit test for find view by first name and last name query plan")
+    @Test
+    public void givenFirstNameAndLastName_whenFindViewByFirstNameAndLastName_thenUseNameIndex() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.findViewByFirstNameAndLastName(employee.getFirstName(), employee.getLastName());
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getFirstName(), employee.getLastName()))
+                .contains(NAME_INDEX).doesNotContain("tableScan");
+    }
+
+    // JUnit test for lock existing ids query plan
+    @DisplayName("JUnit test for lock existing ids query plan")
+    @Test
+    public void givenIds_whenLockExistingIds_thenUsePrimaryKey() {
+        // when - action or the behaviour that we are going to test
+        employeeRepository.lockExistingIds(List.of(employee.getId(), employee.getId() + 1));
+
+        // then - verify the output
+        assertThat(explainLastStatement(employee.getId(), employee.getId() + 1))
+                .contains(PRIMARY_KEY).doesNotContain("tableScan");
+    }
+
+    // a failed contains/doesNotContain prints the whole plan as the actual value
+    private String explainLastStatement(Object... parameters) {
+        return new JdbcTemplate(dataSource)
+                .queryForObject("EXPLAIN " + RecordingStatementInspector.lastStatement(), String.class, parameters);
+    }
+}
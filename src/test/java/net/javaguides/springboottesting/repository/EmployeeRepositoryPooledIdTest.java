@@ -0,0 +1,79 @@
+package net.javaguides.springboottesting.repository;
+
+import jakarta.persistence.EntityManager;
+import net.javaguides.springboottesting.model.Employee;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+class EmployeeRepositoryPooledIdTest {
+
+    abstract static class PooledIdBatchInsertTest {
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        private Statistics statistics;
+
+        @BeforeEach
+        public void setup() {
+            statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+        }
+
+        // JUnit test for batched save all employees operation
+        @DisplayName("JUnit test for batched save all employees operation")
+        @Test
+        public void givenEmployeesList_whenSaveAll_thenInsertInJdbcBatches() {
+            // given - precondition or setup
+            List<Employee> listOfEmployees = IntStream.range(0, 120)
+                    .mapToObj(i -> Employee.builder()
+                            .firstName("First" + i)
+                            .lastName("Last" + i)
+                            .email("employee" + i + "@gmail.com")
+                            .build())
+                    .toList();
+
+            // when - action or the behaviour that we are going to test
+            employeeRepository.saveAll(listOfEmployees);
+            employeeRepository.flush();
+
+            // then - verify the output
+            assertThat(listOfEmployees).allMatch(employee -> employee.getId() > 0);
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+            // 120 rows at hibernate.jdbc.batch_size=50 need three insert statements
+            assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        }
+    }
+
+    @Nested
+    @DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+    @ActiveProfiles("pooled-sequence")
+    class PooledSequenceTest extends PooledIdBatchInsertTest {
+    }
+
+    @Nested
+    @DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+    @ActiveProfiles("pooled-table")
+    class PooledTableTest extends PooledIdBatchInsertTest {
+    }
+}
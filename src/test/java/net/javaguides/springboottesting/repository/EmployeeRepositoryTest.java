@@ -1,16 +1,30 @@
 package net.javaguides.springboottesting.repository;
 
+import jakarta.persistence.EntityManagerFactory;
 import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author Donald F. Coffin
@@ -22,6 +36,12 @@ class EmployeeRepositoryTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Employee employee;
 
     @BeforeEach
@@ -47,6 +67,28 @@ class EmployeeRepositoryTest {
         assertThat(savedEmployee.getId()).isGreaterThan(0);
     }
 
+    // JUnit test for save employee operation with duplicate email
+    @DisplayName("JUnit test for save employee operation with duplicate email")
+    @Test
+    public void givenExistingEmail_whenSave_thenThrowsDataIntegrityViolation() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        Employee duplicateEmployee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email(employee.getEmail())
+                .build();
+
+        // when - action or the behaviour that we are going to test
+        // then - verify the output
+        assertThatThrownBy(() -> employeeRepository.saveAndFlush(duplicateEmployee))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .cause()
+                .isInstanceOfSatisfying(ConstraintViolationException.class, violation ->
+                        assertThat(violation.getConstraintName())
+                                .containsIgnoringCase(Employee.EMAIL_UNIQUE_CONSTRAINT));
+    }
+
     // JUnit test for get all employees operation
     @DisplayName("JUnit test for get all employees operation")
     @Test
@@ -96,6 +138,21 @@ class EmployeeRepositoryTest {
         assertThat(employeeDB).isNotNull();
     }
 
+    // JUnit test for find existing emails operation
+    @DisplayName("JUnit test for find existing emails operation")
+    @Test
+    public void givenEmployeeEmails_whenFindExistingEmails_thenReturnOnlyStoredEmails() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        // when - action or the behaviour that we are going to test
+        List<String> existingEmails = employeeRepository.findExistingEmails(
+                List.of(employee.getEmail(), "tony@gmail.com"));
+
+        // then - verify the output
+        assertThat(existingEmails).containsExactly(employee.getEmail());
+    }
+
     // JUnit test for update employee operation
     @DisplayName("JUnit test for update employee operation")
     @Test
@@ -115,6 +172,69 @@ class EmployeeRepositoryTest {
         assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
     }
 
+    // JUnit test for single-statement update employee operation
+    @DisplayName("JUnit test for single-statement update employee operation")
+    @Test
+    public void givenEmployeeObject_whenUpdateEmployeeQuery_thenUpdateRow() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        // when - action or the behaviour that we are going to test
+        int updatedRows = employeeRepository.updateEmployee(employee.getId(), "Ram", "Jadhav", "ram@gmail.com");
+        int missingRows = employeeRepository.updateEmployee(employee.getId() + 1, "Ram", "Jadhav", "ram@gmail.com");
+        entityManager.clear();
+
+        // then - verify the output
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(missingRows).isZero();
+        Employee updatedEmployee = employeeRepository.findById(employee.getId()).get();
+        assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
+        assertThat(updatedEmployee.getEmail()).isEqualTo("ram@gmail.com");
+        assertThat(updatedEmployee.getVersion()).isEqualTo(1L);
+    }
+
+    // JUnit test for versioned update employee operation
+    @DisplayName("JUnit test for versioned update employee operation")
+    @Test
+    public void givenEmployeeVersion_whenUpdateEmployeeAtVersion_thenUpdateOnlyCurrentVersion() {
+        // given - precondition or setup
+        employeeRepository.saveAndFlush(employee);
+        long version = employee.getVersion();
+
+        // when - action or the behaviour that we are going to test
+        int updatedRows = employeeRepository.updateEmployeeAtVersion(employee.getId(), version, "Ram", "Jadhav",
+                "ram@gmail.com");
+        int staleRows = employeeRepository.updateEmployeeAtVersion(employee.getId(), version, "Tony", "Stark",
+                "tony@gmail.com");
+        entityManager.clear();
+
+        // then - verify the output
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(staleRows).isZero();
+        Employee updatedEmployee = employeeRepository.findById(employee.getId()).get();
+        assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
+        assertThat(updatedEmployee.getVersion()).isEqualTo(version + 1);
+    }
+
+    // JUnit test for single-statement patch employee operation
+    @DisplayName("JUnit test for single-statement patch employee operation")
+    @Test
+    public void givenPartialEmployee_whenPatchEmployeeQuery_thenUpdateOnlyGivenColumns() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        // when - action or the behaviour that we are going to test
+        int updatedRows = employeeRepository.patchEmployee(employee.getId(), null, null, "ram@gmail.com");
+        entityManager.clear();
+
+        // then - verify the output
+        assertThat(updatedRows).isEqualTo(1);
+        Employee patchedEmployee = employeeRepository.findById(employee.getId()).get();
+        assertThat(patchedEmployee.getFirstName()).isEqualTo("Ramesh");
+        assertThat(patchedEmployee.getLastName()).isEqualTo("Fadatare");
+        assertThat(patchedEmployee.getEmail()).isEqualTo("ram@gmail.com");
+    }
+
     // JUnit test for delete employee operation
     @DisplayName("JUnit test for delete employee operation")
     @Test
@@ -151,6 +271,60 @@ class EmployeeRepositoryTest {
         assertThat(employeeOptional).isEmpty();
     }
 
+    // JUnit test for direct delete employee operations
+    @DisplayName("JUnit test for direct delete employee operations")
+    @Test
+    public void givenEmployeesList_whenDeleteByIdQueries_thenReturnDeletedRowCounts() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail.com")
+                .build();
+        Employee employee2 = Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("tony@gmail.com")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee1, employee2));
+
+        // when - action or the behaviour that we are going to test
+        int deletedRows = employeeRepository.deleteEmployeeById(employee.getId());
+        int missingRows = employeeRepository.deleteEmployeeById(employee.getId());
+        int bulkDeletedRows = employeeRepository.deleteEmployeesByIdIn(
+                List.of(employee.getId(), employee1.getId(), employee2.getId()));
+        entityManager.clear();
+
+        // then - verify the output
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(missingRows).isZero();
+        assertThat(bulkDeletedRows).isEqualTo(2);
+        assertThat(employeeRepository.findAll()).isEmpty();
+    }
+
+    // JUnit test for delete existing employees by ids operation
+    @DisplayName("JUnit test for delete existing employees by ids operation")
+    @Test
+    public void givenExistingAndUnknownIds_whenDeleteExistingEmployeesByIdIn_thenReturnDeletedIdsOnly() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("tony@gmail.com")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee1));
+        long unknownId = employee1.getId() + 1;
+
+        // when - action or the behaviour that we are going to test
+        List<Long> deletedIds = employeeRepository.deleteExistingEmployeesByIdIn(
+                List.of(employee.getId(), unknownId, employee1.getId()));
+        entityManager.clear();
+
+        // then - verify the output
+        assertThat(deletedIds).containsExactlyInAnyOrder(employee.getId(), employee1.getId());
+        assertThat(employeeRepository.findAll()).isEmpty();
+    }
+
     // JUnit test for custom query using JPQL with index
     @DisplayName("JUnit test for custom query using JPQL with index")
     @Test
@@ -213,4 +387,227 @@ class EmployeeRepositoryTest {
         // then - verify the output
         assertThat(savedEmployee).isNotNull();
     }
-}
\ No newline at end of file
+
+    // JUnit test for derived query by first name and last name
+    @DisplayName("JUnit test for derived query by first name and last name")
+    @Test
+    public void givenFirstNameAndLastName_whenFindByFirstNameAndLastName_thenReturnEmployeeObject() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        // when - action or the behaviour that we are going to test
+        Employee savedEmployee = employeeRepository.findByFirstNameAndLastName(employee.getFirstName(),
+                employee.getLastName());
+
+        // then - verify the output
+        assertThat(savedEmployee).isNotNull();
+        assertThat(savedEmployee.getEmail()).isEqualTo(employee.getEmail());
+    }
+
+    // JUnit test for projection query by first name and last name
+    @DisplayName("JUnit test for projection query by first name and last name")
+    @Test
+    public void givenFirstNameAndLastName_whenFindViewByFirstNameAndLastName_thenReturnEmployeeView() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeRepository.save(employee);
+
+        // when - action or the behaviour that we are going to test
+        EmployeeView employeeView = employeeRepository.findViewByFirstNameAndLastName(employee.getFirstName(),
+                employee.getLastName());
+
+        // then - verify the output
+        assertThat(employeeView).isNotNull();
+        assertThat(employeeView.getId()).isEqualTo(savedEmployee.getId());
+        assertThat(employeeView.getEmail()).isEqualTo(employee.getEmail());
+    }
+
+    // JUnit test for keyset pagination query
+    @DisplayName("JUnit test for keyset pagination query")
+    @Test
+    public void givenEmployeesList_whenFindByIdGreaterThan_thenReturnNextPageInIdOrder() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail.com")
+                .build();
+        Employee employee2 = Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("tony@gmail.com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+        employeeRepository.save(employee2);
+
+        // when - action or the behaviour that we are going to test
+        List<Employee> employeeList = employeeRepository.findByIdGreaterThanOrderByIdAsc(employee.getId(),
+                PageRequest.of(0, 1));
+
+        // then - verify the output
+        assertThat(employeeList).hasSize(1);
+        assertThat(employeeList.get(0).getId()).isEqualTo(employee1.getId());
+    }
+
+    // JUnit test for stream all employees operation
+    @DisplayName("JUnit test for stream all employees operation")
+    @Test
+    public void givenEmployeesList_whenStreamAll_thenStreamEmployeesInIdOrder() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail.com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        // when - action or the behaviour that we are going to test
+        List<Long> employeeIds;
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employeeIds = employees.map(Employee::getId).toList();
+        }
+
+        // then - verify the output
+        assertThat(employeeIds).containsExactly(employee.getId(), employee1.getId());
+    }
+
+    // JUnit test for streaming unmanaged copies
+    @DisplayName("JUnit test for streaming unmanaged copies")
+    @Test
+    public void givenEmployeesList_whenStreamAllDetached_thenReturnUnmanagedEmployeesInIdOrder() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail.com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        // when - action or the behaviour that we are going to test
+        List<Employee> employees;
+        try (Stream<Employee> detached = employeeRepository.streamAllDetached()) {
+            employees = detached.toList();
+        }
+
+        // then - verify the output
+        assertThat(employees).extracting(Employee::getEmail)
+                .containsExactly(employee.getEmail(), employee1.getEmail());
+        assertThat(employees).extracting(Employee::getVersion).containsOnly(0L);
+        assertThat(employees).noneMatch(entityManager.getEntityManager()::contains);
+    }
+
+    // JUnit test for reading one row past the persistence context
+    @DisplayName("JUnit test for reading one row past the persistence context")
+    @Test
+    public void givenBulkUpdatedEmployee_whenFindDetachedById_thenReturnUpdatedRow() {
+        // given - precondition or setup
+        employeeRepository.saveAndFlush(employee);
+        employeeRepository.patchEmployee(employee.getId(), null, null, "ram@gmail.com");
+
+        // when - action or the behaviour that we are going to test
+        Optional<Employee> detached = employeeRepository.findDetachedById(employee.getId());
+        Optional<Employee> missing = employeeRepository.findDetachedById(employee.getId() + 1);
+
+        // then - verify the output
+        assertThat(detached).hasValueSatisfying(row -> {
+            assertThat(row.getEmail()).isEqualTo("ram@gmail.com");
+            assertThat(row.getVersion()).isEqualTo(1L);
+        });
+        assertThat(missing).isEmpty();
+    }
+
+    // JUnit test for summary projection query
+    @DisplayName("JUnit test for summary projection query")
+    @Test
+    public void givenEmployeesList_whenFindAllSummaries_thenReturnUnmanagedSummariesInIdOrder() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail.com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeSummary> summaries = employeeRepository.findAllSummaries();
+
+        // then - verify the output
+        assertThat(summaries).containsExactly(
+                new EmployeeSummary(employee.getId(), employee.getFirstName(), employee.getLastName()),
+                new EmployeeSummary(employee1.getId(), employee1.getFirstName(), employee1.getLastName()));
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
+    }
+
+    // JUnit test for projection query by email
+    @DisplayName("JUnit test for projection query by email")
+    @Test
+    public void givenEmployeeEmail_whenFindViewByEmail_thenReturnUnmanagedEmployeeView() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when - action or the behaviour that we are going to test
+        Optional<EmployeeView> employeeView = employeeRepository.findViewByEmail(employee.getEmail());
+
+        // then - verify the output
+        assertThat(employeeView).isPresent();
+        assertThat(employeeView.get().getId()).isEqualTo(employee.getId());
+        assertThat(employeeView.get().getLastName()).isEqualTo(employee.getLastName());
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
+    }
+
+    // JUnit test for second-level cache of employee entities
+    // not transactional: an uncommitted insert keeps the employee out of the second-level cache
+    @DisplayName("JUnit test for second-level cache of employee entities")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenLoadedEmployee_whenFindByIdInNewPersistenceContext_thenHitSecondLevelCache() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        Statistics statistics = statistics();
+        employeeRepository.findById(employee.getId());
+        long hits = statistics.getCacheRegionStatistics(Employee.CACHE_REGION).getHitCount();
+
+        // when - action or the behaviour that we are going to test
+        Optional<Employee> cachedEmployee = employeeRepository.findById(employee.getId());
+        long hitsAfter = statistics.getCacheRegionStatistics(Employee.CACHE_REGION).getHitCount();
+
+        // then - verify the output
+        employeeRepository.deleteEmployeeById(employee.getId());
+        assertThat(cachedEmployee).isPresent();
+        assertThat(hitsAfter).isEqualTo(hits + 1);
+    }
+
+    // JUnit test for query cache of the email lookup
+    @DisplayName("JUnit test for query cache of the email lookup")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenEmployeeEmail_whenFindByEmailTwice_thenHitQueryCache() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        Statistics statistics = statistics();
+        employeeRepository.findByEmail(employee.getEmail());
+        long hits = statistics.getQueryCacheHitCount();
+
+        // when - action or the behaviour that we are going to test
+        Optional<Employee> cachedEmployee = employeeRepository.findByEmail(employee.getEmail());
+
+        // then - verify the output
+        employeeRepository.deleteEmployeeById(employee.getId());
+        assertThat(cachedEmployee).isPresent();
+        assertThat(cachedEmployee.get().getId()).isEqualTo(employee.getId());
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,74 @@
+package net.javaguides.springboottesting.repository;
+
+import net.javaguides.springboottesting.exception.DataIntegrityViolations;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Migrates a database created by the former {@code ddl-auto=update} with the application's Flyway settings.
+ *
+ * @author Donald F. Coffin
+ */
+
+@DataJpaTest
+class EmployeeSchemaMigrationTest {
+
+    // what Hibernate created for Employee before the schema moved to Flyway
+    private static final String HIBERNATE_DDL = "create table employees (id bigint generated by default as identity, "
+            + "email varchar(255) not null, first_name varchar(255) not null, last_name varchar(255) not null, "
+            + "primary key (id))";
+
+    @Autowired
+    private Flyway flyway;
+
+    private SingleConnectionDataSource legacyDataSource;
+
+    private JdbcTemplate legacy;
+
+    @BeforeEach
+    public void setup() {
+        legacyDataSource = new SingleConnectionDataSource("jdbc:h2:mem:legacy;DB_CLOSE_DELAY=-1", true);
+        legacy = new JdbcTemplate(legacyDataSource);
+        legacy.execute("DROP ALL OBJECTS");
+        legacy.execute(HIBERNATE_DDL);
+        legacy.update("INSERT INTO employees (first_name, last_name, email) VALUES ('Ramesh', 'Fadatare', "
+                + "'ramesh@gmail.com')");
+    }
+
+    // JUnit test for migrating a Hibernate-created database
+    @DisplayName("JUnit test for migrating a Hibernate-created database")
+    @Test
+    public void givenHibernateCreatedTable_whenMigrate_thenDuplicateEmailIsRejected() {
+        // when - action or the behaviour that we are going to test
+        Flyway legacyFlyway = Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(legacyDataSource)
+                .load();
+        legacyFlyway.migrate();
+
+        // then - verify the output
+        assertThat(Arrays.stream(legacyFlyway.info().applied()).map(MigrationInfo::getVersion).map(String::valueOf))
+                .startsWith("1", "1.1");
+        assertThatThrownBy(() -> legacy.update("INSERT INTO employees (first_name, last_name, email) "
+                + "VALUES ('Tony', 'Stark', 'ramesh@gmail.com')"))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                        violation -> assertThat(DataIntegrityViolations.isDuplicateEmail(violation)).isTrue());
+        assertThatThrownBy(() -> legacy.update("INSERT INTO employees (first_name, last_name, email) "
+                + "VALUES ('Tony', NULL, 'tony@gmail.com')"))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                        violation -> assertThat(DataIntegrityViolations.isDuplicateEmail(violation)).isFalse());
+    }
+}
@@ -0,0 +1,30 @@
+package net.javaguides.springboottesting.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate prepares so tests can inspect the statements behind repository methods.
+ *
+ * @author Donald F. Coffin
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static String lastStatement() {
+        return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+}
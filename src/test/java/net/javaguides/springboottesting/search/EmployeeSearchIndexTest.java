@@ -0,0 +1,206 @@
+package net.javaguides.springboottesting.search;
+
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeeView;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSearchIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmployeeSearchIndex searchIndex;
+
+    @BeforeEach
+    public void setup() {
+        searchIndex = new EmployeeSearchIndex(employeeRepository, transactionManager);
+        searchIndex.put(employee(1L, "Ramesh", "Fadatare", "ramesh@gmail.com", 0L));
+        searchIndex.put(employee(2L, "Tony", "Stark", "tony@gmail.com", 0L));
+        searchIndex.put(employee(3L, "José", "Ramírez", "jose@gmail.com", 0L));
+    }
+
+    // JUnit test for search method
+    @DisplayName("JUnit test for search method")
+    @Test
+    public void givenIndexedEmployees_whenSearch_thenMatchPrefixOfAnyNameOrEmail() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going to test
+        List<Long> byName = ids(searchIndex.search("Ram", 10));
+        List<Long> byFullName = ids(searchIndex.search("tony st", 10));
+        List<Long> byEmail = ids(searchIndex.search("ramesh@", 10));
+
+        // then - verify the output
+        assertThat(byName).containsExactly(1L, 3L);
+        assertThat(byFullName).containsExactly(2L);
+        assertThat(byEmail).containsExactly(1L);
+    }
+
+    // JUnit test for search method with accents and case
+    @DisplayName("JUnit test for search method with accents and case")
+    @Test
+    public void givenAccentedName_whenSearchWithoutAccents_thenMatch() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeView> matches = searchIndex.search("  JOSE ", 10);
+
+        // then - verify the output
+        assertThat(matches).extracting(EmployeeView::getFirstName).containsExactly("José");
+    }
+
+    // JUnit test for search method limit
+    @DisplayName("JUnit test for search method limit")
+    @Test
+    public void givenMoreMatchesThanLimit_whenSearch_thenReturnLimitedDistinctEmployees() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeView> matches = searchIndex.search("r", 1);
+        List<EmployeeView> blank = searchIndex.search(" ", 10);
+
+        // then - verify the output
+        assertThat(matches).hasSize(1);
+        assertThat(blank).isEmpty();
+    }
+
+    // JUnit test for put method replacing an employee
+    @DisplayName("JUnit test for put method replacing an employee")
+    @Test
+    public void givenUpdatedEmployee_whenPut_thenOldTermsNoLongerMatch() {
+        // given - precondition or setup
+        Employee updated = employee(2L, "Anthony", "Stark", "anthony@gmail.com", 1L);
+
+        // when - action or the behaviour that we are going to test
+        searchIndex.put(updated);
+
+        // then - verify the output
+        assertThat(searchIndex.search("tony", 10)).isEmpty();
+        assertThat(ids(searchIndex.search("anth", 10))).containsExactly(2L);
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    // JUnit test for put method with writes arriving out of order
+    @DisplayName("JUnit test for put method with writes arriving out of order")
+    @Test
+    public void givenNewerVersionIndexed_whenPutOlderVersion_thenKeepNewerVersion() {
+        // given - precondition or setup
+        searchIndex.put(employee(2L, "Tony", "Stark", "ironman@gmail.com", 2L));
+
+        // when - action or the behaviour that we are going to test
+        searchIndex.put(employee(2L, "Tony", "Stark", "tony.stark@gmail.com", 1L));
+
+        // then - verify the output
+        assertThat(ids(searchIndex.search("iron", 10))).containsExactly(2L);
+        assertThat(searchIndex.search("tony.stark", 10)).isEmpty();
+    }
+
+    // JUnit test for put method after remove
+    @DisplayName("JUnit test for put method after remove")
+    @Test
+    public void givenRemovedEmployee_whenPutArrivesLate_thenStayRemoved() {
+        // given - precondition or setup
+        searchIndex.remove(2L);
+
+        // when - action or the behaviour that we are going to test
+        searchIndex.put(employee(2L, "Tony", "Stark", "ironman@gmail.com", 1L));
+
+        // then - verify the output
+        assertThat(searchIndex.search("tony", 10)).isEmpty();
+        assertThat(searchIndex.size()).isEqualTo(2);
+    }
+
+    // JUnit test for remove method
+    @DisplayName("JUnit test for remove method")
+    @Test
+    public void givenIndexedEmployee_whenRemove_thenNoLongerMatch() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going to test
+        searchIndex.removeAll(List.of(1L, 99L));
+
+        // then - verify the output
+        assertThat(ids(searchIndex.search("ram", 10))).containsExactly(3L);
+        assertThat(searchIndex.size()).isEqualTo(2);
+    }
+
+    // JUnit test for rebuild method
+    @DisplayName("JUnit test for rebuild method")
+    @Test
+    public void givenEmployeesInDatabase_whenRebuild_thenReplaceIndexContents() {
+        // given - precondition or setup
+        searchIndex.remove(3L);
+        given(employeeRepository.streamAllDetached()).willReturn(Stream.of(
+                employee(3L, "José", "Ramírez", "jose@gmail.com", 0L),
+                employee(4L, "John", "Cena", "cena@gmail.com", 0L)));
+
+        // when - action or the behaviour that we are going to test
+        searchIndex.rebuild();
+
+        // then - verify the output
+        assertThat(searchIndex.size()).isEqualTo(1);
+        assertThat(ids(searchIndex.search("cena", 10))).containsExactly(4L);
+        assertThat(searchIndex.search("jose", 10)).isEmpty();
+    }
+
+    // JUnit test for rebuild method with writes during the load
+    @DisplayName("JUnit test for rebuild method with writes during the load")
+    @Test
+    public void givenWritesWhileLoading_whenRebuild_thenKeepSearchingOldIndexAndApplyWritesToNewOne() {
+        // given - precondition or setup
+        List<Long> idsDuringLoad = new ArrayList<>();
+        given(employeeRepository.streamAllDetached()).willAnswer(invocation -> {
+            // a delete and an update commit after the load read their rows
+            searchIndex.remove(1L);
+            searchIndex.put(employee(4L, "Anthony", "Cena", "cena@gmail.com", 1L));
+            idsDuringLoad.addAll(ids(searchIndex.search("ram", 10)));
+            return Stream.of(employee(1L, "Ramesh", "Fadatare", "ramesh@gmail.com", 0L),
+                    employee(4L, "John", "Cena", "cena@gmail.com", 0L));
+        });
+
+        // when - action or the behaviour that we are going to test
+        searchIndex.rebuild();
+
+        // then - verify the output
+        assertThat(idsDuringLoad).containsExactly(3L);
+        assertThat(searchIndex.search("ramesh", 10)).isEmpty();
+        assertThat(searchIndex.search("cena", 10)).extracting(EmployeeView::getFirstName).containsExactly("Anthony");
+        assertThat(searchIndex.size()).isEqualTo(1);
+    }
+
+    private static List<Long> ids(List<EmployeeView> views) {
+        return views.stream().map(EmployeeView::getId).toList();
+    }
+
+    private static Employee employee(long id, String firstName, String lastName, String email, long version) {
+        return Employee.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .version(version)
+                .build();
+    }
+}
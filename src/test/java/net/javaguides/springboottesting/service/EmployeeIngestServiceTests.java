@@ -0,0 +1,173 @@
+package net.javaguides.springboottesting.service;
+
+import net.javaguides.springboottesting.config.IngestProperties;
+import net.javaguides.springboottesting.exception.IngestQueueFullException;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.IngestItem;
+import net.javaguides.springboottesting.model.IngestJob;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
+import net.javaguides.springboottesting.service.impl.EmployeeIngestServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeIngestServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmployeeSearchIndex searchIndex;
+
+    private IngestProperties properties;
+
+    private EmployeeIngestServiceImpl ingestService;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    public void setup() {
+        properties = new IngestProperties();
+        properties.setQueueCapacity(3);
+        ingestService = new EmployeeIngestServiceImpl(employeeRepository, new TransactionTemplate(transactionManager),
+                searchIndex, properties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (ingestService.isRunning()) {
+            ingestService.stop();
+        }
+    }
+
+    // JUnit test for submit method
+    @DisplayName("JUnit test for submit method")
+    @Test
+    public void givenEmployeesList_whenSubmit_thenReturnPendingJob() {
+        // given - precondition or setup
+        List<Employee> employees = List.of(employee("ramesh@gmail.com"), employee("tony@gmail.com"));
+
+        // when - action or the behaviour that we are going to test
+        IngestJob job = ingestService.submit(employees);
+
+        // then - verify the output
+        assertThat(job.getItems()).extracting(IngestItem::getStatus)
+                .containsExactly(IngestItem.Status.PENDING, IngestItem.Status.PENDING);
+        assertThat(ingestService.getJob(job.getId())).containsSame(job);
+    }
+
+    // JUnit test for submit method which throws exception
+    @DisplayName("JUnit test for submit method which throws exception")
+    @Test
+    public void givenFullQueue_whenSubmit_thenThrowsException() {
+        // given - precondition or setup
+        ingestService.submit(List.of(employee("ramesh@gmail.com"), employee("tony@gmail.com")));
+
+        // when - action or the behaviour that we are going to test
+        assertThatThrownBy(() -> ingestService.submit(List.of(employee("john@gmail.com"), employee("cena@gmail.com"))))
+                .isInstanceOf(IngestQueueFullException.class);
+
+        // then - verify the output
+        assertThat(ingestService.submit(List.of(employee("john@gmail.com"))).getItems()).hasSize(1);
+    }
+
+    // JUnit test for the ingest writer
+    @DisplayName("JUnit test for the ingest writer")
+    @Test
+    public void givenJobWithDuplicates_whenWriterRuns_thenRecordOutcomePerEmployee() throws InterruptedException {
+        // given - precondition or setup
+        given(employeeRepository.findExistingEmails(any())).willReturn(List.of("tony@gmail.com"));
+        willAnswer(invocation -> withIds(invocation.getArgument(0))).given(employeeRepository).saveAll(anyList());
+        IngestJob job = ingestService.submit(List.of(employee("ramesh@gmail.com"), employee("tony@gmail.com"),
+                employee("ramesh@gmail.com")));
+
+        // when - action or the behaviour that we are going to test
+        ingestService.start();
+        awaitDone(job);
+
+        // then - verify the output
+        assertThat(job.getItems()).extracting(IngestItem::getStatus).containsExactly(IngestItem.Status.CREATED,
+                IngestItem.Status.DUPLICATE_EMAIL, IngestItem.Status.DUPLICATE_EMAIL);
+        assertThat(job.getItems().get(0).getEmployeeId()).isEqualTo(1L);
+        verify(searchIndex, times(1)).put(any(Employee.class));
+    }
+
+    // JUnit test for the ingest writer when a concurrent create takes an email
+    @DisplayName("JUnit test for the ingest writer when a concurrent create takes an email")
+    @Test
+    public void givenConcurrentDuplicate_whenWriterRuns_thenRetryEmployeesOneByOne() throws InterruptedException {
+        // given - precondition or setup
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), Employee.EMAIL_UNIQUE_CONSTRAINT));
+        given(employeeRepository.findExistingEmails(any())).willReturn(List.of());
+        given(employeeRepository.saveAll(anyList())).willThrow(duplicate);
+        willAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            if (employee.getEmail().equals("tony@gmail.com")) {
+                throw duplicate;
+            }
+            employee.setId(ids.incrementAndGet());
+            return employee;
+        }).given(employeeRepository).saveAndFlush(any(Employee.class));
+        IngestJob job = ingestService.submit(List.of(employee("ramesh@gmail.com"), employee("tony@gmail.com")));
+
+        // when - action or the behaviour that we are going to test
+        ingestService.start();
+        awaitDone(job);
+
+        // then - verify the output
+        assertThat(job.getItems()).extracting(IngestItem::getStatus)
+                .containsExactly(IngestItem.Status.CREATED, IngestItem.Status.DUPLICATE_EMAIL);
+    }
+
+    private List<Employee> withIds(List<Employee> employees) {
+        employees.forEach(employee -> employee.setId(ids.incrementAndGet()));
+        return employees;
+    }
+
+    private static void awaitDone(IngestJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!job.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(job.isDone()).isTrue();
+    }
+
+    private static Employee employee(String email) {
+        return Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package net.javaguides.springboottesting.service;
+
+import jakarta.persistence.EntityManager;
+import net.javaguides.springboottesting.config.CacheConfig;
+import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.repository.EmployeeRepository;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
+import net.javaguides.springboottesting.service.impl.EmployeeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Donald F. Coffin
+ */
+
+@SpringBootTest(classes = {EmployeeServiceImpl.class, CacheConfig.class})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class EmployeeServiceCachingTest {
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @MockBean
+    private EmployeeSearchIndex searchIndex;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).clear();
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+    }
+
+    // JUnit test for cached getEmployeeById method
+    @DisplayName("JUnit test for cached getEmployeeById method")
+    @Test
+    public void givenEmployeeId_whenGetEmployeeByIdTwice_thenLoadEmployeeOnce() {
+        // given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour that we are going to test
+        employeeService.getEmployeeById(1L);
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(1L);
+
+        // then - verify the output
+        assertThat(cachedEmployee).contains(employee);
+        verify(employeeRepository, times(1)).findById(1L);
+    }
+
+    // JUnit test for uncached missing employee
+    @DisplayName("JUnit test for uncached missing employee")
+    @Test
+    public void givenMissingEmployeeId_whenGetEmployeeByIdTwice_thenLoadEmployeeTwice() {
+        // given - precondition or setup
+        given(employeeRepository.findById(2L)).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going to test
+        employeeService.getEmployeeById(2L);
+        Optional<Employee> missingEmployee = employeeService.getEmployeeById(2L);
+
+        // then - verify the output
+        assertThat(missingEmployee).isEmpty();
+        verify(employeeRepository, times(2)).findById(2L);
+    }
+
+    // JUnit test for versioned updateEmployee method refreshing the cache
+    @DisplayName("JUnit test for versioned updateEmployee method refreshing the cache")
+    @Test
+    public void givenCachedEmployee_whenUpdateEmployeeAtVersion_thenReturnUpdatedEmployeeFromCache() {
+        // given - precondition or setup
+        employee.setVersion(3L);
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        employeeService.getEmployeeById(1L);
+
+        Employee updatedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@gmail.com")
+                .build();
+        given(employeeRepository.updateEmployeeAtVersion(1L, 3L, "Ram", "Jadhav", "ram@gmail.com")).willReturn(1);
+
+        // when - action or the behaviour that we are going to test
+        employeeService.updateEmployee(updatedEmployee, 3L);
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(1L);
+
+        // then - verify the output
+        assertThat(cachedEmployee).contains(updatedEmployee);
+        assertThat(cachedEmployee.get().getVersion()).isEqualTo(4L);
+        verify(employeeRepository, times(1)).findById(1L);
+    }
+
+    // JUnit test for unconditional updateEmployee method refreshing the cache
+    @DisplayName("JUnit test for unconditional updateEmployee method refreshing the cache")
+    @Test
+    public void givenCachedEmployee_whenUpdateEmployee_thenReturnUpdatedEmployeeWithNewVersionFromCache() {
+        // given - precondition or setup
+        employee.setVersion(3L);
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        employeeService.getEmployeeById(1L);
+
+        Employee updatedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@gmail.com")
+                .build();
+        given(employeeRepository.updateEmployee(1L, "Ram", "Jadhav", "ram@gmail.com")).willReturn(1);
+        given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(4L));
+
+        // when - action or the behaviour that we are going to test
+        employeeService.updateEmployee(updatedEmployee);
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(1L);
+
+        // then - verify the output
+        assertThat(cachedEmployee).contains(updatedEmployee);
+        assertThat(cachedEmployee.get().getVersion()).isEqualTo(4L);
+        verify(employeeRepository, times(1)).findById(1L);
+    }
+
+    // JUnit test for deleteEmployee method evicting the cache
+    @DisplayName("JUnit test for deleteEmployee method evicting the cache")
+    @Test
+    public void givenCachedEmployee_whenDeleteEmployee_thenEvictEmployee() {
+        // given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        employeeService.getEmployeeById(1L);
+        given(employeeRepository.deleteEmployeeById(1L)).willReturn(1);
+
+        // when - action or the behaviour that we are going to test
+        employeeService.deleteEmployee(1L);
+        given(employeeRepository.findById(1L)).willReturn(Optional.empty());
+        Optional<Employee> deletedEmployee = employeeService.getEmployeeById(1L);
+
+        // then - verify the output
+        assertThat(deletedEmployee).isEmpty();
+        verify(employeeRepository, times(2)).findById(1L);
+    }
+}
@@ -1,8 +1,16 @@
 package net.javaguides.springboottesting.service;
 
+import jakarta.persistence.EntityManager;
+import net.javaguides.springboottesting.exception.InvalidCursorException;
+import net.javaguides.springboottesting.exception.ResourceAlreadyExistsException;
 import net.javaguides.springboottesting.exception.ResourceNotFoundException;
+import net.javaguides.springboottesting.exception.VersionConflictException;
 import net.javaguides.springboottesting.model.Employee;
+import net.javaguides.springboottesting.model.EmployeePage;
+import net.javaguides.springboottesting.model.EmployeeSummary;
+import net.javaguides.springboottesting.model.EmployeeView;
 import net.javaguides.springboottesting.repository.EmployeeRepository;
+import net.javaguides.springboottesting.search.EmployeeSearchIndex;
 
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -22,11 +31,18 @@ import static org.mockito.Mockito.verify;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * @author Donald F. Coffin
@@ -37,6 +53,10 @@ public class EmployeeServiceTests {
 
     @Mock
     private EmployeeRepository employeeRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private EmployeeSearchIndex searchIndex;
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -57,9 +77,7 @@ public class EmployeeServiceTests {
     @Test
     public void givenEmployeeObject_whenSaveEmployee_thenReturnEmployeeObject() {
         // given - precondition or setup
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.empty());
-        given(employeeRepository.save(employee)).willReturn(employee);
+        given(employeeRepository.saveAndFlush(employee)).willReturn(employee);
 
         System.out.println(employeeRepository);
         System.out.println(employeeService);
@@ -71,6 +89,7 @@ public class EmployeeServiceTests {
 
         // then - verify the output
         assertThat(savedEmployee).isNotNull();
+        verify(searchIndex, times(1)).put(savedEmployee);
     }
 
     // JUnit test for saveEmployee method which throws exception
@@ -78,19 +97,67 @@ public class EmployeeServiceTests {
     @Test
     public void givenEmployeeObject_whenSaveEmployee_thenThrowsException() {
         // given - precondition or setup
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.of(employee));
+        given(employeeRepository.saveAndFlush(employee))
+                .willThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Duplicate entry", new SQLException(),
+                                "employees." + Employee.EMAIL_UNIQUE_CONSTRAINT)));
 
         System.out.println(employeeRepository);
         System.out.println(employeeService);
 
         // when - action or the behaviour that we are going to test
-        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceAlreadyExistsException.class, () -> {
             employeeService.saveEmployee(employee);
         });
 
         // then - verify the output
-        verify(employeeRepository, never()).save(any());
+        verify(employeeRepository, never()).findByEmail(any());
+    }
+
+    // JUnit test for saveEmployees method
+    @DisplayName("JUnit test for saveEmployees method")
+    @Test
+    public void givenEmployeesList_whenSaveEmployees_thenReturnSavedEmployeesList() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("tony@gmail.com")
+                .build();
+        List<Employee> listOfEmployees = List.of(employee, employee1);
+
+        given(employeeRepository.findExistingEmails(any())).willReturn(Collections.emptyList());
+        given(employeeRepository.saveAll(listOfEmployees)).willReturn(listOfEmployees);
+        willDoNothing().given(employeeRepository).flush();
+
+        // when - action or the behaviour that we are going to test
+        List<Employee> savedEmployees = employeeService.saveEmployees(listOfEmployees);
+
+        // then - verify the output
+        assertThat(savedEmployees).hasSize(2);
+        verify(employeeRepository, never()).findByEmail(any());
+    }
+
+    // JUnit test for saveEmployees method which throws exception
+    @DisplayName("JUnit test for saveEmployees method which throws exception")
+    @Test
+    public void givenExistingEmail_whenSaveEmployees_thenThrowsException() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("tony@gmail.com")
+                .build();
+
+        given(employeeRepository.findExistingEmails(any())).willReturn(List.of(employee1.getEmail()));
+
+        // when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceAlreadyExistsException.class, () -> {
+            employeeService.saveEmployees(List.of(employee, employee1));
+        });
+
+        // then - verify the output
+        verify(employeeRepository, never()).saveAll(any());
     }
 
     // JUnit test for getAllEmployees method
@@ -137,6 +204,139 @@ public class EmployeeServiceTests {
         assertThat(employeeList.size()).isEqualTo(0);
     }
 
+    // JUnit test for getEmployeeSummaries method
+    @DisplayName("JUnit test for getEmployeeSummaries method")
+    @Test
+    public void givenEmployeeSummaries_whenGetEmployeeSummaries_thenReturnSummariesWithoutLoadingEntities() {
+        // given - precondition or setup
+        EmployeeSummary summary = new EmployeeSummary(1L, "Ramesh", "Fadatare");
+        given(employeeRepository.findAllSummaries()).willReturn(List.of(summary));
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeSummary> summaries = employeeService.getEmployeeSummaries();
+
+        // then - verify the output
+        assertThat(summaries).containsExactly(summary);
+        verify(employeeRepository, never()).findAll();
+    }
+
+    // JUnit test for findEmployeeViewByEmail method
+    @DisplayName("JUnit test for findEmployeeViewByEmail method")
+    @Test
+    public void givenUnknownEmail_whenFindEmployeeViewByEmail_thenReturnEmpty() {
+        // given - precondition or setup
+        given(employeeRepository.findViewByEmail("unknown@gmail.com")).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going to test
+        Optional<EmployeeView> employeeView = employeeService.findEmployeeViewByEmail("unknown@gmail.com");
+
+        // then - verify the output
+        assertThat(employeeView).isEmpty();
+        verify(employeeRepository, never()).findByEmail(any());
+    }
+
+    // JUnit test for searchEmployees method
+    @DisplayName("JUnit test for searchEmployees method")
+    @Test
+    public void givenSearchQuery_whenSearchEmployees_thenReturnMatchesFromIndex() {
+        // given - precondition or setup
+        EmployeeView employeeView = Mockito.mock(EmployeeView.class);
+        given(searchIndex.search("ram", 5)).willReturn(List.of(employeeView));
+
+        // when - action or the behaviour that we are going to test
+        List<EmployeeView> matches = employeeService.searchEmployees("ram", 5);
+
+        // then - verify the output
+        assertThat(matches).containsExactly(employeeView);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    // JUnit test for getEmployeePage method
+    @DisplayName("JUnit test for getEmployeePage method")
+    @Test
+    public void givenMoreEmployeesThanLimit_whenGetEmployeePage_thenReturnPageWithNextCursor() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .id(2L)
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("tony@gmail.com")
+                .build();
+
+        given(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(employee, employee1));
+
+        // when - action or the behaviour that we are going to test
+        EmployeePage employeePage = employeeService.getEmployeePage(null, 1);
+
+        // then - verify the output
+        assertThat(employeePage.getContent()).containsExactly(employee);
+        assertThat(employeePage.getNextCursor()).isNotNull();
+
+        // the cursor resumes after the last employee of the page
+        given(employeeRepository.findByIdGreaterThanOrderByIdAsc(1L, PageRequest.of(0, 2)))
+                .willReturn(List.of(employee1));
+
+        EmployeePage nextPage = employeeService.getEmployeePage(employeePage.getNextCursor(), 1);
+
+        assertThat(nextPage.getContent()).containsExactly(employee1);
+        assertThat(nextPage.getNextCursor()).isNull();
+    }
+
+    // JUnit test for getEmployeePage method (page size cap)
+    @DisplayName("JUnit test for getEmployeePage method (page size cap)")
+    @Test
+    public void givenLimitAboveMaximum_whenGetEmployeePage_thenCapPageSize() {
+        // given - precondition or setup
+        given(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L,
+                PageRequest.of(0, EmployeeServiceImpl.MAX_PAGE_SIZE + 1)))
+                .willReturn(Collections.emptyList());
+
+        // when - action or the behaviour that we are going to test
+        EmployeePage employeePage = employeeService.getEmployeePage("", 10_000);
+
+        // then - verify the output
+        assertThat(employeePage.getContent()).isEmpty();
+        assertThat(employeePage.getNextCursor()).isNull();
+    }
+
+    // JUnit test for getEmployeePage method which throws exception
+    @DisplayName("JUnit test for getEmployeePage method which throws exception")
+    @Test
+    public void givenMalformedCursor_whenGetEmployeePage_thenThrowsException() {
+        // when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(InvalidCursorException.class, () -> {
+            employeeService.getEmployeePage("not-a-cursor!", 10);
+        });
+
+        // then - verify the output
+        verify(employeeRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any());
+    }
+
+    // JUnit test for exportEmployees method
+    @DisplayName("JUnit test for exportEmployees method")
+    @Test
+    public void givenEmployeeStream_whenExportEmployees_thenConsumeAndDetachEachEmployee() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .id(2L)
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("tony@gmail.com")
+                .build();
+
+        given(employeeRepository.streamAll()).willReturn(Stream.of(employee, employee1));
+
+        // when - action or the behaviour that we are going to test
+        List<Employee> exportedEmployees = new ArrayList<>();
+        employeeService.exportEmployees(exportedEmployees::add);
+
+        // then - verify the output
+        assertThat(exportedEmployees).containsExactly(employee, employee1);
+        verify(entityManager).detach(employee);
+        verify(entityManager).detach(employee1);
+    }
+
     // JUnit test for getEmployeeById method
     @DisplayName("JUnit test for getEmployeeById method")
     @Test
@@ -156,7 +356,8 @@ public class EmployeeServiceTests {
     @Test
     public void givenEmployeeObject_whenUpdateEmployee_thenReturnUpdatedEmployee() {
         // given - precondition or setup
-        given(employeeRepository.save(employee)).willReturn(employee);
+        given(employeeRepository.updateEmployee(1L, "Ram", "Fadatare", "ram@gmail.com")).willReturn(1);
+        given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(4L));
 
         employee.setEmail("ram@gmail.com");
         employee.setFirstName("Ram");
@@ -167,6 +368,112 @@ public class EmployeeServiceTests {
         // then - verify the output
         assertThat(updatedEmployee.getEmail()).isEqualTo("ram@gmail.com");
         assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
+        assertThat(updatedEmployee.getVersion()).isEqualTo(4L);
+    }
+
+    // JUnit test for updateEmployee method which throws exception
+    @DisplayName("JUnit test for updateEmployee method which throws exception")
+    @Test
+    public void givenMissingEmployee_whenUpdateEmployee_thenThrowsException() {
+        // given - precondition or setup
+        given(employeeRepository.updateEmployee(1L, "Ramesh", "Fadatare", "ramesh@gmail.com")).willReturn(0);
+
+        // when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+            employeeService.updateEmployee(employee);
+        });
+
+        // then - verify the output
+        verify(employeeRepository, never()).findById(anyLong());
+        verify(employeeRepository, never()).save(any());
+    }
+
+    // JUnit test for versioned updateEmployee method
+    @DisplayName("JUnit test for versioned updateEmployee method")
+    @Test
+    public void givenCurrentVersion_whenUpdateEmployeeAtVersion_thenReturnEmployeeWithNextVersion() {
+        // given - precondition or setup
+        given(employeeRepository.updateEmployeeAtVersion(1L, 3L, "Ram", "Fadatare", "ramesh@gmail.com"))
+                .willReturn(1);
+        employee.setFirstName("Ram");
+
+        // when - action or the behaviour that we are going to test
+        Employee updatedEmployee = employeeService.updateEmployee(employee, 3L);
+
+        // then - verify the output
+        assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
+        assertThat(updatedEmployee.getVersion()).isEqualTo(4L);
+        verify(employeeRepository, never()).existsById(anyLong());
+    }
+
+    // JUnit test for versioned updateEmployee method which throws exception
+    @DisplayName("JUnit test for versioned updateEmployee method which throws exception")
+    @Test
+    public void givenStaleVersion_whenUpdateEmployeeAtVersion_thenThrowsException() {
+        // given - precondition or setup
+        given(employeeRepository.updateEmployeeAtVersion(1L, 2L, "Ramesh", "Fadatare", "ramesh@gmail.com"))
+                .willReturn(0);
+        given(employeeRepository.existsById(1L)).willReturn(true);
+
+        // when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(VersionConflictException.class, () -> {
+            employeeService.updateEmployee(employee, 2L);
+        });
+
+        // then - verify the output
+        verify(employeeRepository, never()).updateEmployee(anyLong(), any(), any(), any());
+    }
+
+    // JUnit test for versioned updateEmployee method with a missing employee
+    @DisplayName("JUnit test for versioned updateEmployee method with a missing employee")
+    @Test
+    public void givenMissingEmployee_whenUpdateEmployeeAtVersion_thenThrowsException() {
+        // given - precondition or setup
+        given(employeeRepository.updateEmployeeAtVersion(1L, 2L, "Ramesh", "Fadatare", "ramesh@gmail.com"))
+                .willReturn(0);
+        given(employeeRepository.existsById(1L)).willReturn(false);
+
+        // when - action or the behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+            employeeService.updateEmployee(employee, 2L);
+        });
+
+        // then - verify the output
+        verify(employeeRepository, never()).findById(anyLong());
+    }
+
+    // JUnit test for patchEmployee method
+    @DisplayName("JUnit test for patchEmployee method")
+    @Test
+    public void givenPartialEmployee_whenPatchEmployee_thenUpdateOnlyGivenFields() {
+        // given - precondition or setup
+        Employee changes = Employee.builder()
+                .email("ram@gmail.com")
+                .build();
+        given(employeeRepository.patchEmployee(1L, null, null, "ram@gmail.com")).willReturn(1);
+        Employee patchedRow = new Employee(1L, "Ramesh", "Fadatare", "ram@gmail.com", 1L);
+        given(employeeRepository.findDetachedById(1L)).willReturn(Optional.of(patchedRow));
+
+        // when - action or the behaviour that we are going to test
+        employeeService.patchEmployee(1L, changes);
+
+        // then - verify the output
+        verify(employeeRepository, times(1)).patchEmployee(1L, null, null, "ram@gmail.com");
+        verify(searchIndex, times(1)).put(patchedRow);
+    }
+
+    // JUnit test for patchEmployee method which throws exception
+    @DisplayName("JUnit test for patchEmployee method which throws exception")
+    @Test
+    public void givenMissingEmployee_whenPatchEmployee_thenThrowsException() {
+        // given - precondition or setup
+        given(employeeRepository.patchEmployee(2L, "Ram", null, null)).willReturn(0);
+
+        // when - action or the behaviour that we are going to test
+        // then - verify the output
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+            employeeService.patchEmployee(2L, Employee.builder().firstName("Ram").build());
+        });
     }
 
     // JUnit test for deleteEmployee method
@@ -176,12 +483,53 @@ public class EmployeeServiceTests {
         // given - precondition or setup
         long employeeId = 1L;
 
-        willDoNothing().given(employeeRepository).deleteById(employeeId);
+        given(employeeRepository.deleteEmployeeById(employeeId)).willReturn(1);
 
         // when - action or the behaviour that we are going to test
         employeeService.deleteEmployee(employeeId);
 
         // then - verify the output
-        verify(employeeRepository, times(1)).deleteById(employeeId);
+        verify(employeeRepository, times(1)).deleteEmployeeById(employeeId);
+        verify(employeeRepository, never()).findById(anyLong());
+        verify(searchIndex, times(1)).remove(employeeId);
+    }
+
+    // JUnit test for deleteEmployee method which throws exception
+    @DisplayName("JUnit test for deleteEmployee method which throws exception")
+    @Test
+    public void givenMissingEmployeeId_whenDeleteEmployee_thenThrowsException() {
+        // given - precondition or setup
+        given(employeeRepository.deleteEmployeeById(2L)).willReturn(0);
+
+        // when - action or the behaviour that we are going to test
+        // then - verify the output
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+            employeeService.deleteEmployee(2L);
+        });
+        verify(searchIndex, never()).remove(anyLong());
+    }
+
+    // JUnit test for deleteEmployees method
+    @DisplayName("JUnit test for deleteEmployees method")
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenDeleteInChunks() {
+        // given - precondition or setup
+        List<Long> employeeIds = LongStream.rangeClosed(1, EmployeeServiceImpl.DELETE_CHUNK_SIZE + 1)
+                .boxed()
+                .toList();
+
+        List<Long> firstChunk = employeeIds.subList(0, EmployeeServiceImpl.DELETE_CHUNK_SIZE);
+        given(employeeRepository.deleteExistingEmployeesByIdIn(firstChunk)).willReturn(firstChunk);
+        List<Long> unknownIds = List.of((long) EmployeeServiceImpl.DELETE_CHUNK_SIZE + 1);
+        given(employeeRepository.deleteExistingEmployeesByIdIn(unknownIds)).willReturn(List.of());
+
+        // when - action or the behaviour that we are going to test
+        int deletedEmployees = employeeService.deleteEmployees(employeeIds);
+
+        // then - verify the output
+        assertThat(deletedEmployees).isEqualTo(EmployeeServiceImpl.DELETE_CHUNK_SIZE);
+        verify(employeeRepository, times(2)).deleteExistingEmployeesByIdIn(any());
+        // the id that matched no row is not tombstoned in the search index
+        verify(searchIndex).removeAll(firstChunk);
     }
 }